@@ -0,0 +1,117 @@
+package com.flipkart.hbaseobjectmapper.benchmarks;
+
+import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
+import com.flipkart.hbaseobjectmapper.codec.Codec;
+import com.flipkart.hbaseobjectmapper.codec.JavaObjectStreamCodec;
+import com.flipkart.hbaseobjectmapper.codec.ValueCodec;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Contact;
+import com.google.common.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BestSuitCodec} with {@link JavaObjectStreamCodec}, for values of different types
+ * <p>
+ * Both the generic methods of {@link Codec} and the {@link ValueCodec} it specializes for a type (which is what {@link com.flipkart.hbaseobjectmapper.HBObjectMapper HBObjectMapper} uses) are measured.
+ * <p>
+ * Run with: <code>mvn -P benchmarks test-compile exec:exec -Djmh.args="CodecBenchmark"</code>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("UnstableApiUsage")
+public class CodecBenchmark {
+
+    @Param({"BestSuitCodec", "JavaObjectStreamCodec"})
+    private String codecName;
+
+    @Param({"Integer", "Long", "Double", "BigDecimal", "String", "Map", "Contact"})
+    private String typeName;
+
+    private final Map<String, String> flags = Collections.emptyMap();
+
+    private Codec codec;
+
+    private ValueCodec valueCodec;
+
+    private Type type;
+
+    private Serializable value;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        codec = codecName.equals("BestSuitCodec") ? new BestSuitCodec() : new JavaObjectStreamCodec();
+        switch (typeName) {
+            case "Integer":
+                type = Integer.class;
+                value = 123456;
+                break;
+            case "Long":
+                type = Long.class;
+                value = 1234567890123L;
+                break;
+            case "Double":
+                type = Double.class;
+                value = 3.14159;
+                break;
+            case "BigDecimal":
+                type = BigDecimal.class;
+                value = new BigDecimal("12345.6789");
+                break;
+            case "String":
+                type = String.class;
+                value = "The quick brown fox jumps over the lazy dog";
+                break;
+            case "Map":
+                type = new TypeToken<HashMap<String, Integer>>() {
+                }.getType();
+                HashMap<String, Integer> map = new HashMap<>();
+                map.put("a", 1);
+                map.put("b", 2);
+                map.put("c", 3);
+                value = map;
+                break;
+            case "Contact":
+                type = Contact.class;
+                value = new Contact("ABCD", 8888888);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type: " + typeName);
+        }
+        valueCodec = codec.specialize(type, flags);
+        bytes = codec.serialize(value, flags);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return codec.serialize(value, flags);
+    }
+
+    @Benchmark
+    public Serializable deserialize() throws IOException {
+        return codec.deserialize(bytes, type, flags);
+    }
+
+    @Benchmark
+    public byte[] serializeSpecialized() throws IOException {
+        return valueCodec.serialize(value);
+    }
+
+    @Benchmark
+    public Serializable deserializeSpecialized() throws IOException {
+        return valueCodec.deserialize(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,86 @@
+package com.flipkart.hbaseobjectmapper.benchmarks;
+
+import com.flipkart.hbaseobjectmapper.HBAdmin;
+import com.flipkart.hbaseobjectmapper.Records;
+import com.flipkart.hbaseobjectmapper.testcases.daos.EmployeeDAO;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Employee;
+import com.flipkart.hbaseobjectmapper.testcases.util.cluster.InMemoryHBaseCluster;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end throughput of DAO reads (random gets, bulk gets and scans) against an in-memory HBase cluster
+ * <p>
+ * Numbers from this benchmark include HBase's own (in-process) RPC and storage overheads, so they're best compared across versions of this library, on the same machine.
+ * <p>
+ * Run with: <code>mvn -P benchmarks test-compile exec:exec -Djmh.args="DAOBenchmark"</code>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DAOBenchmark {
+
+    private static final int NUM_ROWS = 10_000, BULK_GET_SIZE = 100;
+
+    private InMemoryHBaseCluster hBaseCluster;
+
+    private EmployeeDAO employeeDAO;
+
+    @Setup
+    public void setup() throws IOException {
+        Logger.getRootLogger().setLevel(Level.WARN);
+        hBaseCluster = new InMemoryHBaseCluster();
+        Connection connection = hBaseCluster.start();
+        HBAdmin hbAdmin = HBAdmin.create(connection);
+        hbAdmin.createNamespace("corp");
+        hbAdmin.createTable(Employee.class);
+        employeeDAO = new EmployeeDAO(connection);
+        List<Employee> employees = new ArrayList<>(NUM_ROWS);
+        for (long i = 0; i < NUM_ROWS; i++) {
+            employees.add(new Employee(i, "Employee " + i, (short) (i % 10), System.currentTimeMillis()));
+        }
+        employeeDAO.persist(employees);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        employeeDAO.close();
+        hBaseCluster.end();
+    }
+
+    @Benchmark
+    public Employee get() throws IOException {
+        return employeeDAO.get(ThreadLocalRandom.current().nextLong(NUM_ROWS));
+    }
+
+    @Benchmark
+    public List<Employee> bulkGet() throws IOException {
+        List<Long> rowKeys = new ArrayList<>(BULK_GET_SIZE);
+        for (int i = 0; i < BULK_GET_SIZE; i++) {
+            rowKeys.add(ThreadLocalRandom.current().nextLong(NUM_ROWS));
+        }
+        return employeeDAO.get(rowKeys);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    public void scan(Blackhole blackhole) throws IOException {
+        try (Records<Employee> records = employeeDAO.records(0L, true, (long) NUM_ROWS, false, 1, 1000)) {
+            for (Employee employee : records) {
+                blackhole.consume(employee);
+            }
+        }
+    }
+}
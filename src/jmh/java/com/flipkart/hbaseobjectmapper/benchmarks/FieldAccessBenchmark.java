@@ -0,0 +1,96 @@
+package com.flipkart.hbaseobjectmapper.benchmarks;
+
+import com.flipkart.hbaseobjectmapper.*;
+import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FieldAccessStrategy field access strategies} of {@link HBObjectMapper}, on a record whose fields are cheap to (de)serialize (so that field access is a sizeable part of the cost)
+ * <p>
+ * Run with: <code>mvn -P benchmarks test-compile exec:exec -Djmh.args="FieldAccessBenchmark"</code>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLES"})
+    private FieldAccessStrategy strategy;
+
+    private HBObjectMapper hbObjectMapper;
+
+    private FlatRecord record;
+
+    private Result result;
+
+    @Setup
+    public void setup() {
+        hbObjectMapper = new HBObjectMapper(new BestSuitCodec(), strategy);
+        record = new FlatRecord("row1", 1, 2L, 3, 4L, 5, 6L, 7, 8L);
+        result = hbObjectMapper.writeValueAsResult(record);
+    }
+
+    @Benchmark
+    public FlatRecord readValue() {
+        return hbObjectMapper.readValue(result, FlatRecord.class);
+    }
+
+    @Benchmark
+    public Put writeValueAsPut() {
+        return hbObjectMapper.writeValueAsPut(record);
+    }
+
+    @SuppressWarnings("unused")
+    @HBTable(name = "flat", families = {@Family(name = "f")})
+    public static class FlatRecord implements HBRecord<String> {
+        private String key;
+        @HBColumn(family = "f", column = "c1")
+        private Integer c1;
+        @HBColumn(family = "f", column = "c2")
+        private Long c2;
+        @HBColumn(family = "f", column = "c3")
+        private Integer c3;
+        @HBColumn(family = "f", column = "c4")
+        private Long c4;
+        @HBColumn(family = "f", column = "c5")
+        private Integer c5;
+        @HBColumn(family = "f", column = "c6")
+        private Long c6;
+        @HBColumn(family = "f", column = "c7")
+        private Integer c7;
+        @HBColumn(family = "f", column = "c8")
+        private Long c8;
+
+        public FlatRecord() {
+        }
+
+        FlatRecord(String key, Integer c1, Long c2, Integer c3, Long c4, Integer c5, Long c6, Integer c7, Long c8) {
+            this.key = key;
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+        }
+
+        @Override
+        public String composeRowKey() {
+            return key;
+        }
+
+        @Override
+        public void parseRowKey(String rowKey) {
+            this.key = rowKey;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.flipkart.hbaseobjectmapper.benchmarks;
+
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.HBRecord;
+import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
+import com.flipkart.hbaseobjectmapper.testcases.TestObjects;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Crawl;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of records to and from HBase's {@link Put} and {@link Result} objects by {@link HBObjectMapper}, for entities of different shapes:
+ * <ul>
+ * <li><code>narrow</code>: an {@link com.flipkart.hbaseobjectmapper.testcases.entities.Employee Employee} (a handful of columns)</li>
+ * <li><code>wide</code>: a {@link com.flipkart.hbaseobjectmapper.testcases.entities.Citizen Citizen} (many columns, including ones serialized as JSON)</li>
+ * <li><code>multiVersioned</code>: a {@link Crawl} with 10 versions of its column</li>
+ * </ul>
+ * Run with: <code>mvn -P benchmarks test-compile exec:exec -Djmh.args="MapperBenchmark"</code>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class MapperBenchmark {
+
+    @Param({"narrow", "wide", "multiVersioned"})
+    private String entity;
+
+    private HBObjectMapper hbObjectMapper;
+
+    private HBRecord record;
+
+    private Class<? extends HBRecord> clazz;
+
+    private Result result;
+
+    @Setup
+    public void setup() {
+        hbObjectMapper = new HBObjectMapper(new BestSuitCodec());
+        switch (entity) {
+            case "narrow":
+                record = TestObjects.validEmployeeObjects.get(0);
+                break;
+            case "wide":
+                record = TestObjects.validCitizenObjectsNoVersion.get(0);
+                break;
+            case "multiVersioned":
+                Crawl crawl = new Crawl("crawl1");
+                for (int i = 0; i < 10; i++) {
+                    crawl.addF1(1_000_000L + i, i * 1.5);
+                }
+                record = crawl;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown entity: " + entity);
+        }
+        clazz = record.getClass();
+        result = hbObjectMapper.writeValueAsResult(record);
+    }
+
+    @Benchmark
+    public Put writeValueAsPut() {
+        return hbObjectMapper.writeValueAsPut(record);
+    }
+
+    @Benchmark
+    public Result writeValueAsResult() {
+        return hbObjectMapper.writeValueAsResult(record);
+    }
+
+    @Benchmark
+    public HBRecord readValue() {
+        return hbObjectMapper.readValue(result, clazz);
+    }
+}
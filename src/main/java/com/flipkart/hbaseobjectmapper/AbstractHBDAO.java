@@ -3,7 +3,9 @@ package com.flipkart.hbaseobjectmapper;
 import com.flipkart.hbaseobjectmapper.codec.Codec;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.client.Append;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionConfiguration;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Durability;
@@ -11,24 +13,33 @@ import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.HTable;
 import org.apache.hadoop.hbase.client.Increment;
 import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * A <i>Data Access Object</i> (DAO) class that enables simple random access (read/write) of HBase rows.
@@ -36,6 +47,9 @@ import java.util.TreeMap;
  * <b>This class is thread-safe.</b>
  * <br><br>
  * This class is designed such that only one instance of each DAO class needs to be maintained for the entire lifecycle of your program.
+ * <br><br>
+ * HBase {@link Table} handles (acquired through {@link #getHBaseTable()}) are pooled and reused across calls. Call {@link #close()} when you're done with the DAO, to release them (this doesn't close the HBase {@link Connection}).
+ * A DAO remains usable after it's closed, but then acquires (and closes) a {@link Table} handle per call.
  *
  * @param <R> Data type of row key, which should be '{@link Comparable} with itself' and must be {@link Serializable} (e.g. {@link String}, {@link Integer}, {@link BigDecimal} etc. or your own POJO)
  * @param <T> Entity type that maps to an HBase row (this type must have implemented {@link HBRecord} interface)
@@ -43,10 +57,39 @@ import java.util.TreeMap;
  */
 @SuppressWarnings("WeakerAccess")
 @ThreadSafe
-public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T extends HBRecord<R>> extends BaseHBDAO<R, T> {
+public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T extends HBRecord<R>> extends BaseHBDAO<R, T> implements Closeable {
 
     protected final Connection connection;
 
+    private final TablePool tablePool;
+
+    private final RecordCache<R, T> recordCache;
+
+    // writes per stripe of row keys, so that a record fetched before a write isn't cached after the write has invalidated its row key
+    private final WriteSequences cacheWriteSequences;
+
+    private final NegativeLookupCache negativeLookupCache;
+
+    private final InFlightGets<T> inFlightGets;
+
+    /**
+     * Constructs a data access object using your custom {@link HBObjectMapper}, with optional read-path features (e.g. a cache of records)
+     *
+     * @param connection     HBase Connection
+     * @param hbObjectMapper Your custom {@link HBObjectMapper}
+     * @param options        Optional features of this DAO (see {@link DAOOptions.Builder} for what each of them does)
+     * @throws IllegalStateException Annotation(s) on base entity may be incorrect
+     */
+    protected AbstractHBDAO(Connection connection, HBObjectMapper hbObjectMapper, DAOOptions<R, T> options) {
+        super(hbObjectMapper);
+        this.connection = connection;
+        this.tablePool = new TablePool(this::getHBaseTable);
+        this.recordCache = options.getRecordCache();
+        this.cacheWriteSequences = recordCache == null ? null : new WriteSequences();
+        this.negativeLookupCache = options.getNegativeLookupCache();
+        this.inFlightGets = options.isCoalesceGets() ? new InFlightGets<>() : null;
+    }
+
     /**
      * Constructs a data access object using your custom {@link HBObjectMapper}
      * <p>
@@ -57,10 +100,19 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @param hbObjectMapper Your custom {@link HBObjectMapper}
      * @throws IllegalStateException Annotation(s) on base entity may be incorrect
      */
-    @SuppressWarnings("unchecked")
     protected AbstractHBDAO(Connection connection, HBObjectMapper hbObjectMapper) {
-        super(hbObjectMapper);
-        this.connection = connection;
+        this(connection, hbObjectMapper, DAOOptions.<R, T>builder().build());
+    }
+
+    /**
+     * Constructs a data access object with optional read-path features (see {@link #AbstractHBDAO(Connection, HBObjectMapper, DAOOptions)})
+     *
+     * @param connection HBase Connection
+     * @param options    Optional features of this DAO
+     * @throws IllegalStateException Annotation(s) on base entity may be incorrect
+     */
+    protected AbstractHBDAO(Connection connection, DAOOptions<R, T> options) {
+        this(connection, HBObjectMapperFactory.construct(), options);
     }
 
     /**
@@ -137,10 +189,22 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T get(R rowKey, int numVersionsToFetch) throws IOException {
-        try (Table table = getHBaseTable()) {
-            Result result = table.get(new Get(toBytes(rowKey)).readVersions(numVersionsToFetch));
-            return hbObjectMapper.readValueFromResult(result, hbRecordClass);
+        if (recordCache != null && numVersionsToFetch == 1) {
+            final T cachedRecord = recordCache.getIfPresent(rowKey);
+            if (cachedRecord != null) {
+                return cachedRecord;
+            }
         }
+        final boolean cacheable = recordCache != null && numVersionsToFetch == 1;
+        final long writeSequence = cacheable ? cacheWriteSequences.get(rowKey.hashCode()) : 0;
+        final Get get = new Get(toBytes(rowKey)).readVersions(numVersionsToFetch);
+        final T record = inFlightGets == null
+                ? hbObjectMapper.readValueFromResult(fetch(get), hbRecordClass)
+                : inFlightGets.get(get.getRow(), numVersionsToFetch, null, () -> hbObjectMapper.readValueFromResult(fetch(get), hbRecordClass));
+        if (cacheable && record != null) {
+            cacheFetched(rowKey, record, writeSequence);
+        }
+        return record;
     }
 
     /**
@@ -154,6 +218,26 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return get(rowKey, 1);
     }
 
+    /**
+     * Get a row from HBase table by it's row key, fetching only columns of given fields
+     * <br><br>
+     * Other fields of the returned object are left unset. Use this to avoid fetching (and deserializing) columns you don't need, e.g. on wide rows.
+     *
+     * @param rowKey     Row key
+     * @param fieldNames Names of fields to fetch (private variables of your bean-like class)
+     * @return HBase row, deserialized as object of your bean-like class (that implements {@link HBRecord}), or <code>null</code> if the row has none of the given fields
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public T get(R rowKey, Set<String> fieldNames) throws IOException {
+        final Get get = addColumns(new Get(toBytes(rowKey)), fieldNames);
+        if (inFlightGets != null) {
+            return inFlightGets.get(get.getRow(), 1, fieldNames, () -> hbObjectMapper.readValueFromResult(withTable(table -> table.get(get)), hbRecordClass));
+        }
+        Result result = withTable(table -> table.get(get));
+        return hbObjectMapper.readValueFromResult(result, hbRecordClass);
+    }
+
     /**
      * Creates an HBase {@link Get} object, for enabling specialised read of HBase rows.
      * <br><br>
@@ -175,10 +259,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T getOnGet(Get get) throws IOException {
-        try (Table table = getHBaseTable()) {
-            Result result = table.get(get);
-            return hbObjectMapper.readValueFromResult(result, hbRecordClass);
-        }
+        Result result = withTable(table -> table.get(get));
+        return hbObjectMapper.readValueFromResult(result, hbRecordClass);
     }
 
     /**
@@ -189,11 +271,9 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
     @SuppressWarnings("unused")
     public List<T> getOnGets(List<Get> gets) throws IOException {
         List<T> records = new ArrayList<>(gets.size());
-        try (Table table = getHBaseTable()) {
-            Result[] results = table.get(gets);
-            for (Result result : results) {
-                records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
-            }
+        Result[] results = withTable(table -> table.get(gets));
+        for (Result result : results) {
+            records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
         }
         return records;
     }
@@ -208,16 +288,18 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T[] get(R[] rowKeys, int numVersionsToFetch) throws IOException {
+        if (recordCache != null && numVersionsToFetch == 1) {
+            @SuppressWarnings("unchecked") T[] records = (T[]) Array.newInstance(hbRecordClass, rowKeys.length);
+            return getThroughCache(Arrays.asList(rowKeys)).toArray(records);
+        }
         List<Get> gets = new ArrayList<>(rowKeys.length);
         for (R rowKey : rowKeys) {
             gets.add(new Get(toBytes(rowKey)).readVersions(numVersionsToFetch));
         }
         @SuppressWarnings("unchecked") T[] records = (T[]) Array.newInstance(hbRecordClass, rowKeys.length);
-        try (Table table = getHBaseTable()) {
-            Result[] results = table.get(gets);
-            for (int i = 0; i < records.length; i++) {
-                records[i] = hbObjectMapper.readValueFromResult(results[i], hbRecordClass);
-            }
+        Result[] results = fetch(gets);
+        for (int i = 0; i < records.length; i++) {
+            records[i] = hbObjectMapper.readValueFromResult(results[i], hbRecordClass);
         }
         return records;
     }
@@ -242,16 +324,17 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public List<T> get(List<R> rowKeys, int numVersionsToFetch) throws IOException {
+        if (recordCache != null && numVersionsToFetch == 1) {
+            return getThroughCache(rowKeys);
+        }
         List<Get> gets = new ArrayList<>(rowKeys.size());
         for (R rowKey : rowKeys) {
             gets.add(new Get(toBytes(rowKey)).readVersions(numVersionsToFetch));
         }
         List<T> records = new ArrayList<>(rowKeys.size());
-        try (Table table = getHBaseTable()) {
-            Result[] results = table.get(gets);
-            for (Result result : results) {
-                records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
-            }
+        Result[] results = fetch(gets);
+        for (Result result : results) {
+            records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
         }
         return records;
     }
@@ -267,6 +350,28 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return get(rowKeys, 1);
     }
 
+    /**
+     * Get records by list of row keys, fetching only columns of given fields (This method is a bulk variant of {@link #get(Serializable, Set) get(R, Set)} method)
+     *
+     * @param rowKeys    Row keys to fetch
+     * @param fieldNames Names of fields to fetch
+     * @return List of rows corresponding to row keys passed, deserialized as objects of your bean-like class
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public List<T> get(List<R> rowKeys, Set<String> fieldNames) throws IOException {
+        List<Get> gets = new ArrayList<>(rowKeys.size());
+        for (R rowKey : rowKeys) {
+            gets.add(addColumns(new Get(toBytes(rowKey)), fieldNames));
+        }
+        List<T> records = new ArrayList<>(rowKeys.size());
+        Result[] results = withTable(table -> table.get(gets));
+        for (Result result : results) {
+            records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
+        }
+        return records;
+    }
+
     /**
      * Get specified number of versions of rows from HBase table by a range of row keys - start key (inclusive) to end key (exclusive)
      * <br><br>
@@ -299,8 +404,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public List<T> get(R startRowKey, boolean startRowInclusive, R endRowKey, boolean endRowInclusive, int numVersionsToFetch) throws IOException {
         Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey), startRowInclusive)
-                .withStopRow(toBytes(endRowKey), endRowInclusive)
+                .withStartRow(toUnsaltedBytes(startRowKey), startRowInclusive)
+                .withStopRow(toUnsaltedBytes(endRowKey), endRowInclusive)
                 .readVersions(numVersionsToFetch);
         return get(scan);
     }
@@ -309,20 +414,38 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * Get records from HBase table for a given {@link Scan} object.
      * <br><br>
      * <b>Caution:</b> If you expect large number or rows for given scan criteria, do <u>not</u> use this method. Use the iterable variant {@link #records(Scan)} instead.
+     * <br><br>
+     * For a salted table (see {@link HBTable#saltBuckets()}), start/stop rows of the scan must be unsalted, as with {@link #records(Scan)}.
      *
      * @param scan HBase's scan object
      * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class
      * @throws IOException When HBase call fails
      */
     public List<T> get(Scan scan) throws IOException {
-        List<T> records = new ArrayList<>();
-        try (Table table = getHBaseTable();
-             ResultScanner scanner = table.getScanner(scan)) {
-            for (Result result : scanner) {
-                records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
+        return withTable(table -> {
+            List<T> records = new ArrayList<>();
+            try (ResultScanner scanner = hbTable.getScanner(scan, table::getScanner)) {
+                for (Result result : scanner) {
+                    records.add(hbObjectMapper.readValueFromResult(result, hbRecordClass));
+                }
             }
-        }
-        return records;
+            return records;
+        });
+    }
+
+    /**
+     * Get records from HBase table for a given {@link Scan} object, fetching only columns of given fields (see {@link #get(Serializable, Set) get(R, Set)})
+     * <br><br>
+     * <b>Caution:</b> If you expect large number or rows for given scan criteria, do <u>not</u> use this method. Use the iterable variant {@link #records(Scan, Set)} instead.
+     *
+     * @param scan       HBase's scan object (columns of given fields are added to it)
+     * @param fieldNames Names of fields to fetch
+     * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class (rows that have none of the given fields are skipped)
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public List<T> get(Scan scan, Set<String> fieldNames) throws IOException {
+        return get(addColumns(scan, fieldNames));
     }
 
     /**
@@ -330,7 +453,7 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * <br><br>
      * <b>Caution:</b> If you expect large number or rows for given row key prefix, do <u>not</u> use this method. Use the iterable variant {@link #recordsByPrefix(byte[], int)} instead.
      *
-     * @param rowPrefix          Prefix to scan for
+     * @param rowPrefix          Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @param numVersionsToFetch Number of versions to be retrieved
      * @return Records corresponding to provided prefix, deserialized as list of objects of your bean-like class
      * @throws IOException When HBase call fails
@@ -347,7 +470,7 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * <br><br>
      * <b>Caution:</b> If you expect large number or rows for given row key prefix, do <u>not</u> use this method. Use the iterable variant {@link #recordsByPrefix(byte[])} instead.
      *
-     * @param rowPrefix Prefix to scan for
+     * @param rowPrefix Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class
      * @throws IOException When HBase call fails
      */
@@ -357,6 +480,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
 
     /**
      * Get an iterable to iterate over records matching given {@link Scan} object
+     * <br><br>
+     * For a salted table (see {@link HBTable#saltBuckets()}), start/stop rows of the scan must be unsalted (see {@link #toUnsaltedBytes(Serializable)}): the scan is run on all buckets concurrently and records are merged back in order of row keys.
      *
      * @param scan HBase's scan object
      * @return An iterable to iterate over records matching the scan criteria
@@ -366,10 +491,36 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return new SyncRecords<>(connection, hbObjectMapper, hbRecordClass, hbTable.getName(), scan);
     }
 
+    /**
+     * Get an iterable to iterate over records matching given {@link Scan} object, fetching only columns of given fields (see {@link #get(Serializable, Set) get(R, Set)})
+     *
+     * @param scan       HBase's scan object (columns of given fields are added to it)
+     * @param fieldNames Names of fields to fetch
+     * @return An iterable to iterate over records matching the scan criteria (rows that have none of the given fields are skipped)
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public Records<T> records(Scan scan, Set<String> fieldNames) throws IOException {
+        return records(addColumns(scan, fieldNames));
+    }
+
+    /**
+     * Get an iterable to iterate over records matching given {@link Scan} object, with fields deserialized only when they're accessed (see {@link LazyRecord})
+     * <br><br>
+     * Use this when you read only a few fields of rows, that aren't known upfront (if they are, consider fetching only those, through {@link #records(Scan, Set)}).
+     *
+     * @param scan HBase's scan object
+     * @return An iterable to iterate over lazily deserialized records matching the scan criteria
+     * @throws IOException When HBase call fails
+     */
+    public LazyRecords<R, T> lazyRecords(Scan scan) throws IOException {
+        return new LazyRecords<>(connection, hbObjectMapper, hbRecordClass, hbTable.getName(), scan);
+    }
+
     /**
      * Get an iterable to iterate over records matching given row key prefix
      *
-     * @param rowPrefix Prefix to scan for
+     * @param rowPrefix Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @return An iterable to iterate over records matching the scan criteria
      * @throws IOException When HBase call fails
      */
@@ -380,7 +531,7 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
     /**
      * Get an iterable to iterate over records matching given row key prefix and fetch specific number of versions
      *
-     * @param rowPrefix          Prefix to scan for
+     * @param rowPrefix          Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @param numVersionsToFetch Number of versions to be retrieved
      * @return An iterable over objects of your bean-like class
      * @throws IOException When HBase call fails
@@ -402,8 +553,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Iterable<T> records(R startRowKey, R endRowKey) throws IOException {
         Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey))
-                .withStopRow(toBytes(endRowKey));
+                .withStartRow(toUnsaltedBytes(startRowKey))
+                .withStopRow(toUnsaltedBytes(endRowKey));
         return records(scan);
     }
 
@@ -424,8 +575,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Records<T> records(R startRowKey, boolean startRowInclusive, R endRowKey, boolean endRowInclusive, int numVersionsToFetch, int numRowsForCaching) throws IOException {
         Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey), startRowInclusive)
-                .withStopRow(toBytes(endRowKey), endRowInclusive)
+                .withStartRow(toUnsaltedBytes(startRowKey), startRowInclusive)
+                .withStopRow(toUnsaltedBytes(endRowKey), endRowInclusive)
                 .readVersions(numVersionsToFetch)
                 .setCaching(numRowsForCaching);
         return records(scan);
@@ -442,12 +593,111 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch) throws IOException {
         Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey))
-                .withStopRow(toBytes(endRowKey))
+                .withStartRow(toUnsaltedBytes(startRowKey))
+                .withStopRow(toUnsaltedBytes(endRowKey))
                 .readVersions(numVersionsToFetch);
         return records(scan);
     }
 
+    /**
+     * Get an iterable to iterate over records matching given {@link Scan} object, fetched and mapped ahead of iteration
+     * <br><br>
+     * Rows are fetched from HBase in batches (of {@link Scan#getCaching() scan caching} rows, or 100 rows if that's lower or not set) by a task on the given executor and every batch is mapped to records by another task on the executor.
+     * So, network I/O for a batch overlaps with mapping of earlier batches and with your processing of records, which are still returned in order of row keys (as with {@link #records(Scan)}).
+     * <br><br>
+     * <b>Note:</b>
+     * <ul>
+     * <li>The executor must be able to run at least 2 tasks concurrently (one of them fetches rows for as long as iteration is in progress). Number of threads beyond that bounds how many batches are mapped concurrently.</li>
+     * <li>The executor is not shut down by this library. Close the returned object (e.g. using try-with-resources) to stop fetching ahead, if you stop iterating early.</li>
+     * </ul>
+     *
+     * @param scan          HBase's scan object
+     * @param executor      Executor to fetch and map rows on
+     * @param prefetchDepth Maximum number of mapped batches kept ready ahead of iteration (higher values smoothen out latency spikes but take more memory)
+     * @return An iterable to iterate over records matching the scan criteria
+     * @throws IOException When HBase call fails
+     */
+    public Records<T> prefetchingRecords(Scan scan, ExecutorService executor, int prefetchDepth) throws IOException {
+        return new SyncRecords<>(connection, hbObjectMapper, hbRecordClass, hbTable.getName(), scan, executor, prefetchDepth);
+    }
+
+    /**
+     * Get an iterable to iterate over records matching given {@link Scan} object, fetched by scanning regions of the table in parallel
+     * <br><br>
+     * The scan is split by region boundaries of the table (as per {@link RegionLocator#getStartKeys()}) and up to <code>parallelism</code> regions are scanned at a time, on the given executor.
+     * Records are fetched ahead of iteration only up to a bound, so memory use stays proportional to <code>parallelism</code> and scan caching (see {@link Scan#setCaching(int)}), not to number of rows.
+     * <br><br>
+     * <b>Note:</b>
+     * <ul>
+     * <li>Reversed scans and scans with a limit on number of rows (see {@link Scan#setLimit(int)}) aren't split, i.e. they're run as a single scan on the executor.</li>
+     * <li>The executor is not shut down by this library. Any {@link ExecutorService} works (e.g. a {@link java.util.concurrent.ThreadPoolExecutor}, or on Java 21+, a virtual thread per task executor), as long as it can run <code>parallelism</code> tasks concurrently.</li>
+     * <li>The returned object can be iterated over only once. Close it (e.g. using try-with-resources) to stop scans in progress if you stop iterating early.</li>
+     * <li>This isn't supported for salted tables (see {@link HBTable#saltBuckets()}), whose scans are already run on all buckets concurrently by {@link #records(Scan)}.</li>
+     * </ul>
+     *
+     * @param scan        HBase's scan object
+     * @param executor    Executor to run scans of regions on
+     * @param parallelism Maximum number of regions to scan at a time
+     * @param ordered     Whether records should be in order of row keys (as with {@link #records(Scan)}). If <code>false</code>, records are returned as soon as they're fetched from any region.
+     * @return An iterable to iterate over records matching the scan criteria
+     * @throws IOException                   When HBase call fails
+     * @throws UnsupportedOperationException If the table is salted
+     */
+    public Records<T> parallelRecords(Scan scan, ExecutorService executor, int parallelism, boolean ordered) throws IOException {
+        if (hbTable.getSalt() != null) {
+            throw new UnsupportedOperationException(String.format("Scans of salted table %s can't be split by regions (use records(Scan), which scans all salt buckets concurrently)", hbTable));
+        }
+        final byte[][] regionStartKeys;
+        try (RegionLocator regionLocator = connection.getRegionLocator(hbTable.getName())) {
+            regionStartKeys = regionLocator.getStartKeys();
+        }
+        return new ParallelRecords<>(connection, hbTable.getName(), hbObjectMapper, hbRecordClass, ScanSplitter.splitByRegions(scan, regionStartKeys), executor, parallelism, ordered);
+    }
+
+    /**
+     * Get a stream of records matching given {@link Scan} object, fetched by scanning regions of the table in parallel (this is a {@link Stream} variant of {@link #parallelRecords(Scan, ExecutorService, int, boolean)} method)
+     * <br><br>
+     * <b>Note:</b> Close the stream (e.g. using try-with-resources) to stop scans in progress if you don't consume it fully.
+     *
+     * @param scan        HBase's scan object
+     * @param executor    Executor to run scans of regions on
+     * @param parallelism Maximum number of regions to scan at a time
+     * @param ordered     Whether records should be in order of row keys
+     * @return A stream of records matching the scan criteria
+     * @throws IOException When HBase call fails
+     */
+    public Stream<T> parallelStream(Scan scan, ExecutorService executor, int parallelism, boolean ordered) throws IOException {
+        return parallelRecords(scan, executor, parallelism, ordered).stream();
+    }
+
+    /**
+     * Get an iterable to iterate over records of a (possibly huge) sequence of row keys, fetched by batches of gets with a bounded number of batches in flight (This method is a streaming variant of {@link #get(List)} method)
+     * <br><br>
+     * Row keys are drawn <code>batchSize</code> at a time (on the iterating thread) and every batch is fetched (as with {@link #get(List)}) by a task on the given executor, with up to <code>maxBatchesInFlight</code> batches fetched concurrently.
+     * So, memory use stays proportional to <code>batchSize</code> &times; <code>maxBatchesInFlight</code>, not to number of row keys. Records are returned in order of row keys passed, skipping rows that don't exist.
+     * <br><br>
+     * <b>Note:</b>
+     * <ul>
+     * <li>The executor is not shut down by this library. It should be able to run <code>maxBatchesInFlight</code> tasks concurrently.</li>
+     * <li>To fetch records of a {@link Stream} of row keys, pass its {@link Stream#iterator() iterator}.</li>
+     * <li>The returned object can be iterated over only once. Close it (e.g. using try-with-resources) to stop fetching batches in flight if you stop iterating early.</li>
+     * </ul>
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param batchSize          Number of row keys per batch of gets
+     * @param executor           Executor to fetch batches on
+     * @param maxBatchesInFlight Maximum number of batches fetched (or held) ahead of iteration
+     * @return An iterable to iterate over records of row keys passed
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    public Records<T> records(Iterator<R> rowKeys, int batchSize, ExecutorService executor, int maxBatchesInFlight) {
+        return new BatchedRecords<>(new BoundedBatchIterator<>(rowKeys, batchSize, executor, maxBatchesInFlight, batch -> {
+            final List<T> records = get(batch);
+            records.removeIf(Objects::isNull);
+            return records;
+        }));
+    }
+
     /**
      * Increments field by specified amount
      *
@@ -459,8 +709,11 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public long increment(R rowKey, String fieldName, long amount) throws IOException {
         WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
-        try (Table table = getHBaseTable()) {
-            return table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount);
+        try {
+            return withTable(table -> table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount));
+        } finally {
+            invalidateCached(rowKey);
+            onWritten(toBytes(rowKey));
         }
     }
 
@@ -476,8 +729,11 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public long increment(R rowKey, String fieldName, long amount, Durability durability) throws IOException {
         WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
-        try (Table table = getHBaseTable()) {
-            return table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability);
+        try {
+            return withTable(table -> table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability));
+        } finally {
+            invalidateCached(rowKey);
+            onWritten(toBytes(rowKey));
         }
     }
 
@@ -494,10 +750,14 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T increment(Increment increment) throws IOException {
-        try (Table table = getHBaseTable()) {
-            Result result = table.increment(increment);
-            return hbObjectMapper.readValueFromResult(result, hbRecordClass);
+        final Result result;
+        try {
+            result = withTable(table -> table.increment(increment));
+        } finally {
+            invalidateCached(increment.getRow());
+            onWritten(increment.getRow());
         }
+        return hbObjectMapper.readValueFromResult(result, hbRecordClass);
     }
 
     /**
@@ -561,10 +821,14 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T append(Append append) throws IOException {
-        try (Table table = getHBaseTable()) {
-            Result result = table.append(append);
-            return hbObjectMapper.readValueFromResult(result, hbRecordClass);
+        final Result result;
+        try {
+            result = withTable(table -> table.append(append));
+        } finally {
+            invalidateCached(append.getRow());
+            onWritten(append.getRow());
         }
+        return hbObjectMapper.readValueFromResult(result, hbRecordClass);
     }
 
     /**
@@ -588,10 +852,14 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public R persist(T record) throws IOException {
         Put put = hbObjectMapper.writeValueAsPut0(record);
-        try (Table table = getHBaseTable()) {
-            table.put(put);
-            return record.composeRowKey();
+        final R rowKey = record.composeRowKey();
+        try {
+            useTable(table -> table.put(put));
+        } finally {
+            invalidateCached(rowKey);
+            onWritten(put.getRow());
         }
+        return rowKey;
     }
 
     /**
@@ -608,12 +876,42 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
             puts.add(hbObjectMapper.writeValueAsPut0(record));
             rowKeys.add(record.composeRowKey());
         }
-        try (Table table = getHBaseTable()) {
-            table.put(puts);
+        try {
+            useTable(table -> table.put(puts));
+        } finally {
+            invalidateCached(rowKeys);
+            for (Put put : puts) {
+                onWritten(put.getRow());
+            }
         }
         return rowKeys;
     }
 
+    /**
+     * Persist a (possibly huge) sequence of your bean-like objects (of a class that implements {@link HBRecord}) to HBase table, by batches of puts with a bounded number of batches in flight (this is a streaming variant of {@link #persist(List)} method)
+     * <br><br>
+     * Records are drawn <code>batchSize</code> at a time (on the calling thread) and every batch is persisted (as with {@link #persist(List)}) by a task on the given executor, with up to <code>maxBatchesInFlight</code> batches persisted concurrently.
+     * So, memory use stays proportional to <code>batchSize</code> &times; <code>maxBatchesInFlight</code>, not to number of records. This method returns once all records are persisted.
+     * <br><br>
+     * <b>Note:</b>
+     * <ul>
+     * <li>The executor is not shut down by this library. It should be able to run <code>maxBatchesInFlight</code> tasks concurrently.</li>
+     * <li>To persist a {@link Stream} of records, pass its {@link Stream#iterator() iterator}.</li>
+     * <li>If a batch fails, batches in flight are cancelled and the failure is thrown (records of batches drawn until then may or may not have been persisted).</li>
+     * </ul>
+     *
+     * @param records            Objects that need to be persisted
+     * @param batchSize          Number of records per batch of puts
+     * @param executor           Executor to persist batches on
+     * @param maxBatchesInFlight Maximum number of batches persisted concurrently
+     * @return Number of records persisted
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    public long persist(Iterator<T> records, int batchSize, ExecutorService executor, int maxBatchesInFlight) throws IOException {
+        return drain(new BoundedBatchIterator<>(records, batchSize, executor, maxBatchesInFlight, this::persist));
+    }
+
 
     /**
      * Delete a row from an HBase table for a given row key
@@ -623,8 +921,11 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public void delete(R rowKey) throws IOException {
         Delete delete = new Delete(toBytes(rowKey));
-        try (Table table = getHBaseTable()) {
-            table.delete(delete);
+        try {
+            useTable(table -> table.delete(delete));
+            onDeleted(delete.getRow());
+        } finally {
+            invalidateCached(rowKey);
         }
     }
 
@@ -649,8 +950,13 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         for (R rowKey : rowKeys) {
             deletes.add(new Delete(toBytes(rowKey)));
         }
-        try (Table table = getHBaseTable()) {
-            table.delete(deletes);
+        try {
+            useTable(table -> table.delete(deletes));
+            for (Delete delete : deletes) {
+                onDeleted(delete.getRow());
+            }
+        } finally {
+            invalidateCached(Arrays.asList(rowKeys));
         }
     }
 
@@ -662,16 +968,66 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public void delete(List<T> records) throws IOException {
         List<Delete> deletes = new ArrayList<>(records.size());
+        List<R> rowKeys = new ArrayList<>(records.size());
         for (T record : records) {
-            deletes.add(new Delete(toBytes(record.composeRowKey())));
+            final R rowKey = record.composeRowKey();
+            deletes.add(new Delete(toBytes(rowKey)));
+            rowKeys.add(rowKey);
+        }
+        try {
+            useTable(table -> table.delete(deletes));
+            for (Delete delete : deletes) {
+                onDeleted(delete.getRow());
+            }
+        } finally {
+            invalidateCached(rowKeys);
         }
-        try (Table table = getHBaseTable()) {
-            table.delete(deletes);
+    }
+
+    /**
+     * Delete HBase rows for a (possibly huge) sequence of row keys, by batches of deletes with a bounded number of batches in flight (this is a streaming variant of {@link #delete(Serializable[]) delete(R[])} method)
+     * <br><br>
+     * Row keys are drawn <code>batchSize</code> at a time (on the calling thread) and every batch is deleted by a task on the given executor, with up to <code>maxBatchesInFlight</code> batches deleted concurrently.
+     * This method returns once all rows are deleted. See {@link #persist(Iterator, int, ExecutorService, int)} for notes on the executor and on failures.
+     *
+     * @param rowKeys            Row keys to delete
+     * @param batchSize          Number of row keys per batch of deletes
+     * @param executor           Executor to delete batches on
+     * @param maxBatchesInFlight Maximum number of batches deleted concurrently
+     * @return Number of rows deleted
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    public long delete(Iterator<R> rowKeys, int batchSize, ExecutorService executor, int maxBatchesInFlight) throws IOException {
+        return drain(new BoundedBatchIterator<>(rowKeys, batchSize, executor, maxBatchesInFlight, batch -> {
+            delete(batch.toArray((R[]) Array.newInstance(rowKeyClass, batch.size())));
+            return batch;
+        }));
+    }
+
+    /**
+     * Runs a bounded-concurrency bulk operation to completion
+     *
+     * @return Number of outcomes
+     */
+    private static long drain(BoundedBatchIterator<?, ?> outcomes) throws IOException {
+        long count = 0;
+        try (BoundedBatchIterator<?, ?> iterator = outcomes) {
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+        return count;
     }
 
     /**
      * Get reference to HBase table
+     * <br><br>
+     * This DAO acquires (and pools) its own table handles through this method. So, override this to decorate or instrument the {@link Table} the DAO works with.
      *
      * @return {@link HTable} object
      * @throws IOException When table reference couldn't be resolved through connection
@@ -680,6 +1036,233 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return connection.getTable(hbTable.getName());
     }
 
+    /**
+     * Creates a write-behind persister for this DAO's table, that buffers writes on the client and sends them to HBase in batches (see {@link BufferedPersister})
+     *
+     * @param writeBufferSize     Size of write buffer, in bytes (writes are flushed whenever the buffer fills up)
+     * @param flushIntervalMillis Maximum time, in milliseconds, a write may stay in the buffer before being flushed (<code>0</code> disables periodic flushes)
+     * @param listener            Listener to which writes that failed are reported
+     * @return A persister, which must be closed after use
+     * @throws IOException When HBase call fails
+     */
+    public BufferedPersister<R, T> newBufferedPersister(long writeBufferSize, long flushIntervalMillis, FailedWritesListener<R> listener) throws IOException {
+        if (writeBufferSize <= 0) {
+            throw new IllegalArgumentException("Write buffer size must be positive");
+        }
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Flush interval can't be negative");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener for failed writes can't be null");
+        }
+        final BufferedMutatorParams params = new BufferedMutatorParams(hbTable.getName())
+                .writeBufferSize(Long.MAX_VALUE) // flushes are made by the persister, so that it knows when buffered writes have reached HBase
+                .setWriteBufferPeriodicFlushTimeoutMs(0)
+                .listener((e, mutator) -> {
+                    for (int i = 0; i < e.getNumExceptions(); i++) {
+                        byte[] row = e.getRow(i).getRow();
+                        listener.onFailure(hbObjectMapper.bytesToRowKey(row, 0, row.length, hbRecordClass), e.getCause(i));
+                    }
+                });
+        return new BufferedPersister<>(this, connection.getBufferedMutator(params), writeBufferSize, flushIntervalMillis);
+    }
+
+    /**
+     * Creates a write-behind persister for this DAO's table, with write buffer size and flush interval as configured for the HBase client (see {@link #newBufferedPersister(long, long, FailedWritesListener)})
+     *
+     * @param listener Listener to which writes that failed are reported
+     * @return A persister, which must be closed after use
+     * @throws IOException When HBase call fails
+     */
+    public BufferedPersister<R, T> newBufferedPersister(FailedWritesListener<R> listener) throws IOException {
+        final Configuration configuration = connection.getConfiguration();
+        return newBufferedPersister(
+                configuration.getLong(ConnectionConfiguration.WRITE_BUFFER_SIZE_KEY, ConnectionConfiguration.WRITE_BUFFER_SIZE_DEFAULT),
+                configuration.getLong(ConnectionConfiguration.WRITE_BUFFER_PERIODIC_FLUSH_TIMEOUT_MS, ConnectionConfiguration.WRITE_BUFFER_PERIODIC_FLUSH_TIMEOUT_MS_DEFAULT),
+                listener);
+    }
+
+    /**
+     * Releases HBase {@link Table} handles pooled by this DAO. The HBase {@link Connection} is <b>not</b> closed.
+     * <p>
+     * The DAO remains usable after this, but would then acquire and release a {@link Table} handle per call.
+     *
+     * @throws IOException When a table handle couldn't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        tablePool.close();
+    }
+
+    /**
+     * Serves single-version gets by row keys from the record cache, fetching only the misses from HBase (and caching them)
+     */
+    private List<T> getThroughCache(List<R> rowKeys) throws IOException {
+        final List<T> records = new ArrayList<>(rowKeys.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        final List<Get> gets = new ArrayList<>();
+        final List<Long> writeSequences = new ArrayList<>();
+        for (R rowKey : rowKeys) {
+            final T cachedRecord = recordCache.getIfPresent(rowKey);
+            if (cachedRecord == null) {
+                missIndexes.add(records.size());
+                writeSequences.add(cacheWriteSequences.get(rowKey.hashCode()));
+                gets.add(new Get(toBytes(rowKey)));
+            }
+            records.add(cachedRecord);
+        }
+        if (gets.isEmpty()) {
+            return records;
+        }
+        Result[] results = fetch(gets);
+        for (int i = 0; i < results.length; i++) {
+            final int index = missIndexes.get(i);
+            final T record = hbObjectMapper.readValueFromResult(results[i], hbRecordClass);
+            if (record != null) {
+                cacheFetched(rowKeys.get(index), record, writeSequences.get(i));
+            }
+            records.set(index, record);
+        }
+        return records;
+    }
+
+    /**
+     * Caches a record fetched from HBase, unless its row key was written to since the fetch started (as the record may predate that write)
+     *
+     * @param writeSequence Write sequence of the row key, as captured before the fetch started
+     */
+    private void cacheFetched(R rowKey, T record, long writeSequence) {
+        final int keyHash = rowKey.hashCode();
+        if (cacheWriteSequences.get(keyHash) != writeSequence) {
+            return;
+        }
+        recordCache.put(rowKey, record);
+        if (cacheWriteSequences.get(keyHash) != writeSequence) {
+            recordCache.invalidate(rowKey); // a write raced with caching the record (and may have invalidated the row key before it was cached)
+        }
+    }
+
+    /**
+     * Fetches a row (of whole column families), skipping the round trip to HBase if the row is known to be absent
+     */
+    private Result fetch(Get get) throws IOException {
+        if (negativeLookupCache != null && negativeLookupCache.isKnownAbsent(get.getRow())) {
+            return Result.EMPTY_RESULT;
+        }
+        if (negativeLookupCache == null) {
+            return withTable(table -> table.get(get));
+        }
+        final long writeSequence = negativeLookupCache.writeSequence(get.getRow());
+        final Result result = withTable(table -> table.get(get));
+        negativeLookupCache.onFetched(get.getRow(), !result.isEmpty(), writeSequence);
+        return result;
+    }
+
+    /**
+     * Fetches rows (of whole column families), skipping round trips to HBase for rows known to be absent
+     */
+    private Result[] fetch(List<Get> gets) throws IOException {
+        if (negativeLookupCache == null) {
+            return withTable(table -> table.get(gets));
+        }
+        final Result[] results = new Result[gets.size()];
+        final List<Integer> unknownIndexes = new ArrayList<>();
+        final List<Get> unknownGets = new ArrayList<>();
+        final List<Long> writeSequences = new ArrayList<>();
+        for (int i = 0; i < gets.size(); i++) {
+            if (negativeLookupCache.isKnownAbsent(gets.get(i).getRow())) {
+                results[i] = Result.EMPTY_RESULT;
+            } else {
+                unknownIndexes.add(i);
+                unknownGets.add(gets.get(i));
+                writeSequences.add(negativeLookupCache.writeSequence(gets.get(i).getRow()));
+            }
+        }
+        if (!unknownGets.isEmpty()) {
+            final Result[] unknownResults = withTable(table -> table.get(unknownGets));
+            for (int i = 0; i < unknownResults.length; i++) {
+                results[unknownIndexes.get(i)] = unknownResults[i];
+                negativeLookupCache.onFetched(unknownGets.get(i).getRow(), !unknownResults[i].isEmpty(), writeSequences.get(i));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return Tracker of writes buffered by a {@link BufferedPersister} (<code>null</code>, if this DAO doesn't have a negative lookup cache)
+     */
+    NegativeLookupCache.BufferedWrites newBufferedWrites() {
+        return negativeLookupCache == null ? null : negativeLookupCache.newBufferedWrites();
+    }
+
+    void onWritten(byte[] row) {
+        if (negativeLookupCache != null) {
+            negativeLookupCache.onWritten(row);
+        }
+        if (inFlightGets != null) {
+            inFlightGets.forget(row);
+        }
+    }
+
+    void onDeleted(byte[] row) {
+        if (negativeLookupCache != null) {
+            negativeLookupCache.onDeleted(row);
+        }
+        if (inFlightGets != null) {
+            inFlightGets.forget(row);
+        }
+    }
+
+    void invalidateCached(R rowKey) {
+        if (recordCache != null) {
+            cacheWriteSequences.increment(rowKey.hashCode());
+            recordCache.invalidate(rowKey);
+        }
+    }
+
+    private void invalidateCached(List<R> rowKeys) {
+        if (recordCache != null) {
+            for (R rowKey : rowKeys) {
+                invalidateCached(rowKey);
+            }
+        }
+    }
+
+    private void invalidateCached(byte[] row) {
+        if (recordCache != null) {
+            recordCache.invalidate(hbObjectMapper.bytesToRowKey(row, 0, row.length, hbRecordClass));
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableFunction<V> {
+        V apply(Table table) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface TableConsumer {
+        void accept(Table table) throws IOException;
+    }
+
+    /**
+     * Runs a function on a (pooled) handle to this DAO's HBase table
+     */
+    private <V> V withTable(TableFunction<V> function) throws IOException {
+        Table table = tablePool.borrow();
+        try {
+            return function.apply(table);
+        } finally {
+            tablePool.release(table);
+        }
+    }
+
+    private void useTable(TableConsumer consumer) throws IOException {
+        withTable(table -> {
+            consumer.accept(table);
+            return null;
+        });
+    }
+
     /**
      * Fetch value of column for a given row key and field
      *
@@ -741,17 +1324,18 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
     public NavigableMap<R, NavigableMap<Long, Object>> fetchFieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch) throws IOException {
         Field field = getField(fieldName);
         WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-        Scan scan = new Scan().withStartRow(toBytes(startRowKey)).withStopRow(toBytes(endRowKey));
+        Scan scan = new Scan().withStartRow(toUnsaltedBytes(startRowKey)).withStopRow(toUnsaltedBytes(endRowKey));
         scan.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
         scan.readVersions(numVersionsToFetch);
-        NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
-        try (Table table = getHBaseTable();
-             ResultScanner scanner = table.getScanner(scan)) {
-            for (Result result : scanner) {
-                populateFieldValuesToMap(field, result, map);
+        return withTable(table -> {
+            NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
+            try (ResultScanner scanner = hbTable.getScanner(scan, table::getScanner)) {
+                for (Result result : scanner) {
+                    populateFieldValuesToMap(field, result, map);
+                }
             }
-        }
-        return map;
+            return map;
+        });
     }
 
     /**
@@ -787,11 +1371,9 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
             gets.add(get);
         }
         Map<R, NavigableMap<Long, Object>> map = new LinkedHashMap<>(rowKeys.length, 1.0f);
-        try (Table table = getHBaseTable()) {
-            Result[] results = table.get(gets);
-            for (Result result : results) {
-                populateFieldValuesToMap(field, result, map);
-            }
+        Result[] results = withTable(table -> table.get(gets));
+        for (Result result : results) {
+            populateFieldValuesToMap(field, result, map);
         }
         return map;
     }
@@ -804,11 +1386,17 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public boolean exists(R rowKey) throws IOException {
-        try (Table table = getHBaseTable()) {
-            return table.exists(new Get(
-                    toBytes(rowKey)
-            ));
+        final Get get = new Get(toBytes(rowKey));
+        if (negativeLookupCache != null && negativeLookupCache.isKnownAbsent(get.getRow())) {
+            return false;
         }
+        if (negativeLookupCache == null) {
+            return withTable(table -> table.exists(get));
+        }
+        final long writeSequence = negativeLookupCache.writeSequence(get.getRow());
+        final boolean exists = withTable(table -> table.exists(get));
+        negativeLookupCache.onFetched(get.getRow(), exists, writeSequence);
+        return exists;
     }
 
     /**
@@ -825,8 +1413,27 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
                     toBytes(rowKey)
             ));
         }
-        try (Table table = getHBaseTable()) {
-            return table.exists(gets);
+        if (negativeLookupCache == null) {
+            return withTable(table -> table.exists(gets));
+        }
+        final boolean[] exists = new boolean[gets.size()];
+        final List<Integer> unknownIndexes = new ArrayList<>();
+        final List<Get> unknownGets = new ArrayList<>();
+        final List<Long> writeSequences = new ArrayList<>();
+        for (int i = 0; i < gets.size(); i++) {
+            if (!negativeLookupCache.isKnownAbsent(gets.get(i).getRow())) {
+                unknownIndexes.add(i);
+                unknownGets.add(gets.get(i));
+                writeSequences.add(negativeLookupCache.writeSequence(gets.get(i).getRow()));
+            }
+        }
+        if (!unknownGets.isEmpty()) {
+            final boolean[] unknownExists = withTable(table -> table.exists(unknownGets));
+            for (int i = 0; i < unknownExists.length; i++) {
+                exists[unknownIndexes.get(i)] = unknownExists[i];
+                negativeLookupCache.onFetched(unknownGets.get(i).getRow(), unknownExists[i], writeSequences.get(i));
+            }
         }
+        return exists;
     }
 }
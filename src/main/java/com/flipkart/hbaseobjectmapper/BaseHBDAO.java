@@ -2,23 +2,22 @@ package com.flipkart.hbaseobjectmapper;
 
 import com.google.common.reflect.TypeToken;
 import org.apache.hadoop.hbase.Cell;
-import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.client.Append;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
 
 import javax.annotation.Nonnull;
 import java.io.Serializable;
 import java.lang.reflect.Field;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.function.Function;
 
 /**
@@ -83,9 +82,21 @@ abstract class BaseHBDAO<R extends Serializable & Comparable<R>, T extends HBRec
      * Convert typed row key into a byte array
      *
      * @param rowKey Row key, as used in your code
-     * @return Byte array corresponding to HBase row key
+     * @return Byte array corresponding to HBase row key (salted, if the table is salted: see {@link HBTable#saltBuckets()})
      */
     public byte[] toBytes(R rowKey) {
+        return hbObjectMapper.rowKeyToBytes(rowKey, hbRecordClass);
+    }
+
+    /**
+     * Convert typed row key into a byte array, without salt (see {@link HBTable#saltBuckets()})
+     * <br><br>
+     * Use this for start/stop rows of {@link org.apache.hadoop.hbase.client.Scan Scan}s and for row key prefixes passed to this DAO. For a table that isn't salted, this is same as {@link #toBytes(Serializable)}.
+     *
+     * @param rowKey Row key, as used in your code
+     * @return Byte array corresponding to row key, without salt
+     */
+    public byte[] toUnsaltedBytes(R rowKey) {
         return hbObjectMapper.rowKeyToBytes(rowKey, hbTable.getCodecFlags());
     }
 
@@ -124,15 +135,15 @@ abstract class BaseHBDAO<R extends Serializable & Comparable<R>, T extends HBRec
         if (result.isEmpty()) {
             return;
         }
-        WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-        List<Cell> cells = result.getColumnCells(hbColumn.familyBytes(), hbColumn.columnBytes());
-        for (Cell cell : cells) {
-            Type fieldType = hbObjectMapper.getFieldType(field, hbColumn.isMultiVersioned());
-            @SuppressWarnings("unchecked") final R rowKey = hbObjectMapper.bytesToRowKey(CellUtil.cloneRow(cell), hbTable.getCodecFlags(), (Class<T>) field.getDeclaringClass());
-            if (!map.containsKey(rowKey)) {
-                map.put(rowKey, new TreeMap<>());
-            }
-            map.get(rowKey).put(cell.getTimestamp(), hbObjectMapper.byteArrayToValue(CellUtil.cloneValue(cell), fieldType, hbColumn.codecFlags()));
+        final NavigableMap<Long, Object> versions = hbObjectMapper.readColumnVersions(result, hbRecordClass, field.getName());
+        if (versions == null) {
+            return;
+        }
+        final Cell cell = result.rawCells()[0]; // all cells of a result are of the same row
+        final R rowKey = hbObjectMapper.bytesToRowKey(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), hbRecordClass);
+        final NavigableMap<Long, Object> existingVersions = map.putIfAbsent(rowKey, versions);
+        if (existingVersions != null) {
+            existingVersions.putAll(versions);
         }
     }
 
@@ -144,6 +155,49 @@ abstract class BaseHBDAO<R extends Serializable & Comparable<R>, T extends HBRec
         return new WrappedHBColumn(field);
     }
 
+    /**
+     * Restrict a {@link Get} to columns of given fields, so that only those columns are fetched from HBase (and so, only those fields are deserialized)
+     *
+     * @param get        HBase's Get object
+     * @param fieldNames Names of fields to fetch
+     * @return The same Get object (for chaining)
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    protected Get addColumns(@Nonnull final Get get, @Nonnull final Set<String> fieldNames) {
+        for (ColumnMapping column : getColumns(fieldNames)) {
+            get.addColumn(column.familyBytes(), column.columnBytes());
+        }
+        return get;
+    }
+
+    /**
+     * Restrict a {@link Scan} to columns of given fields (see {@link #addColumns(Get, Set)})
+     *
+     * @param scan       HBase's Scan object
+     * @param fieldNames Names of fields to fetch
+     * @return The same Scan object (for chaining)
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    protected Scan addColumns(@Nonnull final Scan scan, @Nonnull final Set<String> fieldNames) {
+        for (ColumnMapping column : getColumns(fieldNames)) {
+            scan.addColumn(column.familyBytes(), column.columnBytes());
+        }
+        return scan;
+    }
+
+    private List<ColumnMapping> getColumns(final Set<String> fieldNames) {
+        if (fieldNames.isEmpty()) {
+            throw new IllegalArgumentException("Specify at least one field to fetch");
+        }
+        final EntityMapping<R, T> entityMapping = hbObjectMapper.getEntityMapping(hbRecordClass);
+        final List<ColumnMapping> columns = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            getField(fieldName); // validates field name
+            columns.add(entityMapping.getColumn(fieldName));
+        }
+        return columns;
+    }
+
     protected Field getField(@Nonnull final String fieldName) {
         Field field = fields.get(fieldName);
         if (field == null) {
@@ -0,0 +1,33 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.Iterator;
+
+/**
+ * Records fetched by batches of gets, with a bounded number of batches in flight (for internal use only)
+ *
+ * @param <T> record type
+ * @see BoundedBatchIterator
+ */
+@SuppressWarnings("rawtypes")
+class BatchedRecords<T extends HBRecord> implements Records<T> {
+    private final BoundedBatchIterator<?, T> iterator;
+    private boolean iteratorCreated = false;
+
+    BatchedRecords(BoundedBatchIterator<?, T> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iteratorCreated) {
+            throw new IllegalStateException("Records fetched by batches of gets can be iterated over only once");
+        }
+        iteratorCreated = true;
+        return iterator;
+    }
+
+    @Override
+    public void close() {
+        iterator.close();
+    }
+}
@@ -0,0 +1,144 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Iterator over outcomes of an operation applied to batches of items drawn from another iterator, with a bounded number of batches in flight (for internal use only)
+ * <p>
+ * Items are drawn (on the iterating thread) <code>batchSize</code> at a time and every batch is submitted to the executor, so that up to <code>maxBatchesInFlight</code> batches are processed concurrently. Outcomes are returned in order of batches.
+ * So, no more than <code>maxBatchesInFlight</code> batches (of items and of their outcomes) are held in memory at a time, however many items there are.
+ *
+ * @param <I> Type of items
+ * @param <O> Type of outcomes
+ */
+class BoundedBatchIterator<I, O> implements Iterator<O>, Closeable {
+
+    /**
+     * Operation on a batch of items (e.g. {@link AbstractHBDAO#get(List)})
+     */
+    @FunctionalInterface
+    interface BatchOperation<I, O> {
+        List<O> apply(List<I> batch) throws IOException;
+    }
+
+    private final Iterator<I> items;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final int maxBatchesInFlight;
+    private final BatchOperation<I, O> operation;
+    private final Deque<Future<List<O>>> inFlight = new ArrayDeque<>();
+    private Iterator<O> currentBatch = Collections.emptyIterator();
+    private boolean closed = false;
+
+    BoundedBatchIterator(Iterator<I> items, int batchSize, ExecutorService executor, int maxBatchesInFlight, BatchOperation<I, O> operation) {
+        validate(batchSize, maxBatchesInFlight);
+        this.items = items;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.operation = operation;
+    }
+
+    static void validate(int batchSize, int maxBatchesInFlight) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        if (maxBatchesInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of batches in flight must be at least 1");
+        }
+    }
+
+    /**
+     * Draw next batch of items
+     *
+     * @return Up to <code>batchSize</code> items (empty, if there are no more items)
+     */
+    static <I> List<I> nextBatch(Iterator<I> items, int batchSize) {
+        final List<I> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && items.hasNext()) {
+            batch.add(items.next());
+        }
+        return batch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentBatch.hasNext()) {
+            if (closed) {
+                throw new IllegalStateException("Records were closed");
+            }
+            fill();
+            final Future<List<O>> batch = inFlight.poll();
+            if (batch == null) {
+                return false;
+            }
+            currentBatch = await(batch).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public O next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentBatch.next();
+    }
+
+    private void fill() {
+        while (inFlight.size() < maxBatchesInFlight && items.hasNext()) {
+            final List<I> batch = nextBatch(items, batchSize);
+            inFlight.add(executor.submit(() -> operation.apply(batch)));
+        }
+    }
+
+    private List<O> await(Future<List<O>> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a batch to be processed"));
+        } catch (ExecutionException e) {
+            close();
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+
+    /**
+     * Stops processing of batches in flight (batches already sent to HBase may still get applied)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Future<List<O>> batch : inFlight) {
+            batch.cancel(true);
+        }
+        inFlight.clear();
+        currentBatch = Collections.emptyIterator();
+    }
+}
@@ -0,0 +1,184 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Publisher} of outcomes of an asynchronous operation applied to batches of items drawn from an iterator, with a bounded number of batches in flight (for internal use only)
+ * <p>
+ * Items are drawn <code>batchSize</code> at a time, only while the subscriber has outstanding demand, and up to <code>maxBatchesInFlight</code> batches are processed concurrently. Outcomes are published in order of batches.
+ * Batches whose outcomes are yet to be published count towards <code>maxBatchesInFlight</code>. So, no more than that many batches are held in memory at a time, however many items there are.
+ * <p>
+ * The iterator is consumed by the (only) subscription to this publisher.
+ *
+ * @param <I> Type of items
+ * @param <O> Type of outcomes
+ */
+class BoundedBatchPublisher<I, O> implements Publisher<O> {
+
+    /**
+     * Asynchronous operation on a batch of items (e.g. through {@link org.apache.hadoop.hbase.client.AsyncTable#get(List)})
+     */
+    @FunctionalInterface
+    interface BatchOperation<I, O> {
+        CompletableFuture<List<O>> apply(List<I> batch);
+    }
+
+    private final Iterator<I> items;
+    private final int batchSize;
+    private final int maxBatchesInFlight;
+    private final BatchOperation<I, O> operation;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    BoundedBatchPublisher(Iterator<I> items, int batchSize, int maxBatchesInFlight, BatchOperation<I, O> operation) {
+        BoundedBatchIterator.validate(batchSize, maxBatchesInFlight);
+        this.items = items;
+        this.batchSize = batchSize;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.operation = operation;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber can't be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher can be subscribed to only once (its items can be consumed only once)"));
+            return;
+        }
+        final BatchSubscription subscription = new BatchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain(); // completes right away, if there are no items
+    }
+
+    /**
+     * Drains outcomes of batches to a subscriber as per its demand (state is accessed and signals to the subscriber are made only by the thread that has 'entered' {@link #drain()}, as tracked by {@link #wip})
+     */
+    private class BatchSubscription implements Subscription {
+        private final Subscriber<? super O> subscriber;
+        private final Deque<CompletableFuture<List<O>>> batches = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Iterator<O> currentBatch = Collections.emptyIterator();
+        private volatile boolean cancelled = false;
+        private volatile Throwable error;
+
+        BatchSubscription(Subscriber<? super O> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                error = new IllegalArgumentException("Number of elements requested must be positive, but was " + n);
+                drain();
+                return;
+            }
+            long current, updated;
+            do {
+                current = requested.get();
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (current != Long.MAX_VALUE && !requested.compareAndSet(current, updated));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    if (cancelled || error != null) {
+                        terminate();
+                        return;
+                    }
+                    long r = requested.get(), e = 0;
+                    while (e != r) {
+                        if (currentBatch.hasNext()) {
+                            subscriber.onNext(currentBatch.next());
+                            e++;
+                            if (cancelled) {
+                                terminate();
+                                return;
+                            }
+                        } else if (!batches.isEmpty() && batches.peek().isDone()) {
+                            currentBatch = batches.poll().join().iterator();
+                        } else {
+                            break;
+                        }
+                    }
+                    if (e != 0 && r != Long.MAX_VALUE) {
+                        requested.addAndGet(-e);
+                    }
+                    while (requested.get() > 0 && batches.size() < maxBatchesInFlight && items.hasNext()) {
+                        final CompletableFuture<List<O>> batch = operation.apply(BoundedBatchIterator.nextBatch(items, batchSize));
+                        batches.add(batch);
+                        batch.whenComplete((outcomes, throwable) -> drain());
+                    }
+                    if (!currentBatch.hasNext() && batches.isEmpty() && !items.hasNext()) {
+                        terminate();
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    terminate();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Signals completion (or error) to the subscriber, unless it has cancelled (the drain loop is left 'entered' after this, so that the subscriber isn't signalled again)
+         */
+        private void terminate() {
+            for (CompletableFuture<List<O>> batch : batches) {
+                batch.cancel(false);
+            }
+            batches.clear();
+            currentBatch = Collections.emptyIterator();
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            final Throwable throwable = error;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
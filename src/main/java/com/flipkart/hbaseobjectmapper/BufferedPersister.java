@@ -0,0 +1,258 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A write-behind counterpart of {@link AbstractHBDAO}'s write methods, backed by HBase's {@link BufferedMutator}
+ * <p>
+ * Writes are buffered on the client and sent to HBase in batches: when the write buffer fills up, when the periodic flush interval elapses, on {@link #flush()} and on {@link #close()}.
+ * All of these flushes are made by this persister (on the thread whose write fills up the buffer and on a timer thread of its own, respectively), rather than by the {@link BufferedMutator}, so that it knows when buffered writes have reached HBase.
+ * So, methods of this class return as soon as the write is buffered and writes that fail are reported to the {@link FailedWritesListener} this persister was created with, rather than thrown to the caller.
+ * <br><br>
+ * Get an instance through {@link AbstractHBDAO#newBufferedPersister(long, long, FailedWritesListener)} and {@link #close()} it when you're done.
+ * <br><br>
+ * Writes are reported to the DAO as they're buffered, just as its own writes are: if the DAO caches records (see {@link RecordCache}), row keys are invalidated in its cache and gets of the row that are in flight aren't shared anymore (see {@link DAOOptions.Builder#coalesceGets(boolean)}).
+ * Since the DAO may re-cache a row key that's read before the buffered write reaches HBase, keep cached records bounded by time.
+ * Likewise, row keys persisted are cleared from the DAO's {@link NegativeLookupCache}, if any, and aren't marked absent in it again until a flush has sent their writes to HBase. Row keys deleted are added to it.
+ * <br><br>
+ * <b>This class is thread-safe.</b>
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type that maps to an HBase row
+ */
+@ThreadSafe
+public class BufferedPersister<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements Closeable {
+    private static final long NOTHING_BUFFERED = Long.MIN_VALUE;
+    private static final long MAX_FLUSH_CHECK_INTERVAL_MILLIS = 1000;
+
+    private final AbstractHBDAO<R, T> dao;
+    private final BufferedMutator bufferedMutator;
+    private final long writeBufferSize;
+    private final long flushIntervalNanos;
+    private final ScheduledExecutorService periodicFlusher;
+    private final NegativeLookupCache.BufferedWrites bufferedWrites;
+    // held (shared) while a write is buffered and (exclusively) while buffered writes are detached for a flush, so that a write isn't detached before it's in the write buffer
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    // heap size of writes buffered since the last flush started and when the first of them was buffered
+    private final AtomicLong bufferedSize = new AtomicLong();
+    private final AtomicLong bufferedSince = new AtomicLong(NOTHING_BUFFERED);
+
+    /**
+     * @param dao                 DAO to which writes are reported as they're buffered
+     * @param bufferedMutator     Mutator whose own flushes (on a full write buffer and periodic ones) are disabled
+     * @param writeBufferSize     Size of write buffer, in bytes
+     * @param flushIntervalMillis Maximum time, in milliseconds, a write may stay in the buffer before being flushed (<code>0</code> disables periodic flushes)
+     */
+    BufferedPersister(AbstractHBDAO<R, T> dao, BufferedMutator bufferedMutator, long writeBufferSize, long flushIntervalMillis) {
+        this.dao = dao;
+        this.bufferedMutator = bufferedMutator;
+        this.writeBufferSize = writeBufferSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.bufferedWrites = dao.newBufferedWrites();
+        if (flushIntervalMillis > 0) {
+            final String threadName = "buffered-persister-flusher-" + bufferedMutator.getName().getNameAsString();
+            this.periodicFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long checkIntervalMillis = Math.max(BufferedMutator.MIN_WRITE_BUFFER_PERIODIC_FLUSH_TIMERTICK_MS, Math.min(flushIntervalMillis, MAX_FLUSH_CHECK_INTERVAL_MILLIS));
+            periodicFlusher.scheduleWithFixedDelay(this::flushIfDue, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.periodicFlusher = null;
+        }
+    }
+
+    /**
+     * Buffer write of your bean-like object (of a class that implements {@link HBRecord})
+     *
+     * @param record Object that needs to be persisted
+     * @return Row key of the object
+     * @throws IOException When HBase call fails (i.e. when this call triggers a flush of the write buffer, which fails)
+     */
+    public R persist(T record) throws IOException {
+        Put put = dao.hbObjectMapper.writeValueAsPut0(record);
+        final R rowKey = record.composeRowKey();
+        final boolean bufferFull;
+        flushLock.readLock().lock();
+        try {
+            addBufferedWrite(put.getRow());
+            bufferedMutator.mutate(put);
+            bufferFull = onBuffered(put.heapSize());
+        } finally {
+            flushLock.readLock().unlock();
+            dao.invalidateCached(rowKey);
+            dao.onWritten(put.getRow());
+        }
+        if (bufferFull) {
+            flush();
+        }
+        return rowKey;
+    }
+
+    /**
+     * Buffer writes of a list of your bean-like objects (this is a bulk variant of {@link #persist(HBRecord)} method)
+     *
+     * @param records List of objects that needs to be persisted
+     * @return Row keys of the objects
+     * @throws IOException When HBase call fails
+     */
+    public List<R> persist(List<T> records) throws IOException {
+        List<Mutation> puts = new ArrayList<>(records.size());
+        List<R> rowKeys = new ArrayList<>(records.size());
+        for (T record : records) {
+            puts.add(dao.hbObjectMapper.writeValueAsPut0(record));
+            rowKeys.add(record.composeRowKey());
+        }
+        final boolean bufferFull;
+        flushLock.readLock().lock();
+        try {
+            long heapSize = 0;
+            for (Mutation put : puts) {
+                addBufferedWrite(put.getRow());
+                heapSize += put.heapSize();
+            }
+            bufferedMutator.mutate(puts);
+            bufferFull = onBuffered(heapSize);
+        } finally {
+            flushLock.readLock().unlock();
+            for (int i = 0; i < puts.size(); i++) {
+                dao.invalidateCached(rowKeys.get(i));
+                dao.onWritten(puts.get(i).getRow());
+            }
+        }
+        if (bufferFull) {
+            flush();
+        }
+        return rowKeys;
+    }
+
+    /**
+     * Buffer delete of a row
+     *
+     * @param rowKey row key to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(R rowKey) throws IOException {
+        final Delete delete = new Delete(dao.toBytes(rowKey));
+        final boolean bufferFull;
+        flushLock.readLock().lock();
+        try {
+            bufferedMutator.mutate(delete);
+            bufferFull = onBuffered(delete.heapSize());
+            dao.onDeleted(delete.getRow());
+        } finally {
+            flushLock.readLock().unlock();
+            dao.invalidateCached(rowKey);
+        }
+        if (bufferFull) {
+            flush();
+        }
+    }
+
+    /**
+     * Buffer delete of a row by object (of class that implements {@link HBRecord})
+     *
+     * @param record Object to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(T record) throws IOException {
+        delete(record.composeRowKey());
+    }
+
+    private void addBufferedWrite(byte[] row) {
+        if (bufferedWrites != null) {
+            bufferedWrites.add(row);
+        }
+    }
+
+    /**
+     * Account for writes just buffered (called with flush lock held)
+     *
+     * @return Whether the write buffer has filled up
+     */
+    private boolean onBuffered(long heapSize) {
+        bufferedSince.compareAndSet(NOTHING_BUFFERED, System.nanoTime());
+        return bufferedSize.addAndGet(heapSize) > writeBufferSize;
+    }
+
+    private void flushIfDue() {
+        final long since = bufferedSince.get();
+        if (since == NOTHING_BUFFERED || System.nanoTime() - since < flushIntervalNanos) {
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            // writes that failed are reported to the listener and a flush is attempted again on next check (also, this persister may have been closed meanwhile)
+        }
+    }
+
+    /**
+     * Writes buffered so far (to be released once they're flushed, if the DAO has a negative lookup cache), from which point on the write buffer counts as empty
+     */
+    private int[] detachBufferedWrites() {
+        flushLock.writeLock().lock();
+        try {
+            bufferedSize.set(0);
+            bufferedSince.set(NOTHING_BUFFERED);
+            return bufferedWrites == null ? null : bufferedWrites.detach();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void releaseBufferedWrites(int[] detached) {
+        if (detached != null) {
+            bufferedWrites.release(detached);
+        }
+    }
+
+    /**
+     * Send all buffered writes to HBase and wait for them to complete
+     *
+     * @throws IOException When HBase call fails
+     */
+    public void flush() throws IOException {
+        final int[] detached = detachBufferedWrites();
+        try {
+            bufferedMutator.flush();
+        } finally {
+            releaseBufferedWrites(detached);
+        }
+    }
+
+    /**
+     * Flush buffered writes and release resources held by this persister (the DAO it was created from isn't affected)
+     *
+     * @throws IOException When HBase call fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (periodicFlusher != null) {
+            periodicFlusher.shutdown();
+        }
+        final int[] detached = detachBufferedWrites();
+        try {
+            bufferedMutator.close();
+        } finally {
+            releaseBufferedWrites(detached);
+        }
+    }
+}
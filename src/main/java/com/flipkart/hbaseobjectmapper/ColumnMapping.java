@@ -0,0 +1,116 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.codec.Codec;
+import com.flipkart.hbaseobjectmapper.codec.ValueCodec;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Resolved mapping between a field of an entity class and its HBase column (for internal use only)
+ * <p>
+ * Everything that can be derived from the field's declaration (annotation values, encoded family and column names, codec flags, generic type, specialized codec and field accessor) is computed once, when this object is constructed.
+ */
+class ColumnMapping {
+    /**
+     * Orders columns the way HBase orders cells within a row: by column family and then by column name
+     */
+    static final Comparator<ColumnMapping> HBASE_ORDER = Comparator.comparing(ColumnMapping::familyBytes, Bytes.BYTES_COMPARATOR)
+            .thenComparing(ColumnMapping::columnBytes, Bytes.BYTES_COMPARATOR);
+
+    private final Field field;
+    private final WrappedHBColumn hbColumn;
+    private final byte[] familyBytes, columnBytes;
+    private final Type valueType;
+    private final FieldAccessor accessor;
+    private final ValueCodec valueCodec;
+
+    ColumnMapping(Field field, WrappedHBColumn hbColumn, Codec codec, FieldAccessStrategy fieldAccessStrategy) {
+        this.field = field;
+        this.hbColumn = hbColumn;
+        this.accessor = fieldAccessStrategy.accessorFor(field);
+        this.familyBytes = Bytes.toBytes(hbColumn.family());
+        this.columnBytes = Bytes.toBytes(hbColumn.column());
+        if (hbColumn.isMultiVersioned() && field.getGenericType() instanceof ParameterizedType) {
+            this.valueType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1];
+        } else {
+            this.valueType = field.getGenericType();
+        }
+        this.valueCodec = codec.specialize(valueType, hbColumn.codecFlags());
+    }
+
+    Field field() {
+        return field;
+    }
+
+    String fieldName() {
+        return field.getName();
+    }
+
+    WrappedHBColumn hbColumn() {
+        return hbColumn;
+    }
+
+    byte[] familyBytes() {
+        return familyBytes;
+    }
+
+    byte[] columnBytes() {
+        return columnBytes;
+    }
+
+    Map<String, String> codecFlags() {
+        return hbColumn.codecFlags();
+    }
+
+    boolean isMultiVersioned() {
+        return hbColumn.isMultiVersioned();
+    }
+
+    boolean isSingleVersioned() {
+        return hbColumn.isSingleVersioned();
+    }
+
+    /**
+     * Type of value stored in the column: the field's type for single-versioned columns and type of the map's values for multi-versioned columns
+     */
+    Type valueType() {
+        return valueType;
+    }
+
+    /**
+     * Codec specialized for type and codec flags of this column's values
+     */
+    ValueCodec valueCodec() {
+        return valueCodec;
+    }
+
+    /**
+     * Compares this column with the column of a cell, in {@link #HBASE_ORDER}, without copying the cell's family or qualifier
+     */
+    int compareToColumnOf(Cell cell) {
+        int cmp = Bytes.compareTo(familyBytes, 0, familyBytes.length, cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength());
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Bytes.compareTo(columnBytes, 0, columnBytes.length, cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+    }
+
+    Object getValue(Object obj) throws ReflectiveOperationException {
+        return accessor.get(obj);
+    }
+
+    void setValue(Object obj, Object value) throws ReflectiveOperationException {
+        accessor.set(obj, value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %s", field.getName(), hbColumn);
+    }
+}
@@ -0,0 +1,131 @@
+package com.flipkart.hbaseobjectmapper;
+
+import javax.annotation.concurrent.Immutable;
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * Optional read-path features of a DAO (i.e. of {@link AbstractHBDAO} or {@link ReactiveHBDAO}), all of which are off by default
+ * <br><br>
+ * Build an instance through {@link #builder()} and pass it to a DAO's constructor (e.g. {@link AbstractHBDAO#AbstractHBDAO(org.apache.hadoop.hbase.client.Connection, DAOOptions)}), e.g.:
+ * <pre>
+ * super(connection, DAOOptions.&lt;String, Citizen&gt;builder()
+ *         .recordCache(GuavaRecordCache.of(10_000, 5, TimeUnit.MINUTES))
+ *         .coalesceGets(true)
+ *         .build());
+ * </pre>
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type that maps to an HBase row
+ */
+@Immutable
+public final class DAOOptions<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+    private final RecordCache<R, T> recordCache;
+    private final NegativeLookupCache negativeLookupCache;
+    private final boolean coalesceGets;
+
+    private DAOOptions(Builder<R, T> builder) {
+        this.recordCache = builder.recordCache;
+        this.negativeLookupCache = builder.negativeLookupCache;
+        this.coalesceGets = builder.coalesceGets;
+    }
+
+    /**
+     * @param <R> Data type of row key
+     * @param <T> Entity type that maps to an HBase row
+     * @return A builder of options, with all features off
+     */
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Builder<R, T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return Cache of records (<code>null</code>, for no caching)
+     */
+    public RecordCache<R, T> getRecordCache() {
+        return recordCache;
+    }
+
+    /**
+     * @return Cache of row keys known to be absent (<code>null</code>, for no caching)
+     */
+    public NegativeLookupCache getNegativeLookupCache() {
+        return negativeLookupCache;
+    }
+
+    /**
+     * @return Whether concurrent gets of the same row share one call to HBase
+     */
+    public boolean isCoalesceGets() {
+        return coalesceGets;
+    }
+
+    /**
+     * Builder of {@link DAOOptions} (not thread-safe)
+     *
+     * @param <R> Data type of row key
+     * @param <T> Entity type that maps to an HBase row
+     */
+    public static final class Builder<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+        private RecordCache<R, T> recordCache;
+        private NegativeLookupCache negativeLookupCache;
+        private boolean coalesceGets;
+
+        private Builder() {
+        }
+
+        /**
+         * Read through a cache of records (supported by {@link AbstractHBDAO} only)
+         * <br><br>
+         * Single-version gets by row key (e.g. {@link AbstractHBDAO#get(Serializable) get(R)}, {@link AbstractHBDAO#get(java.util.List) get(List)} and {@link AbstractHBDAO#get(Serializable[]) get(R[])}) are served from the cache where possible and only row keys missing in the cache are fetched from HBase. Row keys written to through the DAO are invalidated in the cache.
+         * <br><br>
+         * <b>Note:</b>
+         * <ul>
+         * <li>Cached records are shared across callers: don't modify records returned by the above methods.</li>
+         * <li>Writes by other DAO instances or processes can leave stale records in the cache, until they're evicted or expire. So, do bound the cache by time (e.g. see {@link GuavaRecordCache#of(long, long, java.util.concurrent.TimeUnit)}). A record fetched by a read that races with a write through the DAO isn't cached.</li>
+         * </ul>
+         *
+         * @param recordCache Cache of records (<code>null</code>, for no caching)
+         * @return This builder
+         */
+        public Builder<R, T> recordCache(RecordCache<R, T> recordCache) {
+            this.recordCache = recordCache;
+            return this;
+        }
+
+        /**
+         * Read through a cache of row keys known to be absent
+         * <br><br>
+         * Lookups by row key (i.e. gets by row key(s), including their multi-version variants, and <code>exists</code> methods) of row keys in the cache are answered without a round trip to HBase (see {@link NegativeLookupCache} for caveats).
+         *
+         * @param negativeLookupCache Cache of row keys known to be absent (<code>null</code>, for no caching), for use with one DAO only
+         * @return This builder
+         */
+        public Builder<R, T> negativeLookupCache(NegativeLookupCache negativeLookupCache) {
+            this.negativeLookupCache = negativeLookupCache;
+            return this;
+        }
+
+        /**
+         * Coalesce concurrent gets of the same row
+         * <br><br>
+         * Concurrent single-row gets (e.g. {@link AbstractHBDAO#get(Serializable) get(R)}, its multi-version variant and {@link AbstractHBDAO#get(Serializable, Set) get(R, Set)}) for the same row key, number of versions and fields share one call to HBase and one deserialization: callers that arrive while a get is in flight get the same record. This collapses bursts of reads of a hot row.
+         * <br><br>
+         * <b>Note:</b> such callers share the returned record, so don't modify it. A get in flight is shared only until the row is written to through the DAO.
+         *
+         * @param coalesceGets Whether concurrent gets of the same row should share one call to HBase
+         * @return This builder
+         */
+        public Builder<R, T> coalesceGets(boolean coalesceGets) {
+            this.coalesceGets = coalesceGets;
+            return this;
+        }
+
+        /**
+         * @return Options, as set on this builder
+         */
+        public DAOOptions<R, T> build() {
+            return new DAOOptions<>(this);
+        }
+    }
+}
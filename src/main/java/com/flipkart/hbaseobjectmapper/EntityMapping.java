@@ -0,0 +1,140 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.codec.Codec;
+import com.flipkart.hbaseobjectmapper.codec.ValueCodec;
+import com.flipkart.hbaseobjectmapper.exceptions.InternalError;
+import com.flipkart.hbaseobjectmapper.exceptions.ObjectNotInstantiatableException;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, pre-computed mapping plan for an entity class (for internal use only)
+ * <p>
+ * This captures everything {@link HBObjectMapper} needs to convert objects of an entity class to HBase data types and vice-versa, so that
+ * reflection and annotation parsing happen once per class rather than once per row. Instances are cached by {@link HBObjectMapper}.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+class EntityMapping<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+    private final Class<T> clazz;
+    private final WrappedHBTable<R, T> hbTable;
+    private final Constructor<T> constructor;
+    private final Type rowKeyType;
+    private final ValueCodec rowKeyCodec;
+    private final List<ColumnMapping> columns;
+    private final List<ColumnMapping> columnsInHBaseOrder;
+    private final Map<String, ColumnMapping> columnsByFieldName;
+
+    EntityMapping(Class<T> clazz, Map<String, Field> hbColumnFields, Codec codec, FieldAccessStrategy fieldAccessStrategy) {
+        this.clazz = clazz;
+        this.hbTable = new WrappedHBTable<>(clazz);
+        this.constructor = resolveEmptyConstructor(clazz);
+        this.rowKeyType = resolveRowKeyType(clazz);
+        final ValueCodec rowKeyCodec = codec.specialize(rowKeyType == null ? Serializable.class : rowKeyType, hbTable.getCodecFlags());
+        this.rowKeyCodec = hbTable.getSalt() == null ? rowKeyCodec : hbTable.getSalt().wrap(rowKeyCodec);
+        List<ColumnMapping> columns = new ArrayList<>(hbColumnFields.size());
+        Map<String, ColumnMapping> columnsByFieldName = new LinkedHashMap<>(hbColumnFields.size(), 1.0f);
+        for (Field field : hbColumnFields.values()) {
+            ColumnMapping column = new ColumnMapping(field, new WrappedHBColumn(field), codec, fieldAccessStrategy);
+            columns.add(column);
+            columnsByFieldName.put(field.getName(), column);
+        }
+        this.columns = Collections.unmodifiableList(columns);
+        List<ColumnMapping> columnsInHBaseOrder = new ArrayList<>(columns);
+        columnsInHBaseOrder.sort(ColumnMapping.HBASE_ORDER);
+        this.columnsInHBaseOrder = Collections.unmodifiableList(columnsInHBaseOrder);
+        this.columnsByFieldName = Collections.unmodifiableMap(columnsByFieldName);
+    }
+
+    private static <T> Constructor<T> resolveEmptyConstructor(Class<T> clazz) {
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null; // reported (as a validation error or an instantiation error) only when it matters
+        }
+    }
+
+    /**
+     * Resolves row key type from return type of <code>composeRowKey()</code> (which may be inherited, e.g. from a {@link MappedSuperClass})
+     */
+    private static Type resolveRowKeyType(Class<?> clazz) {
+        try {
+            return clazz.getMethod("composeRowKey").getReturnType();
+        } catch (NoSuchMethodException e) {
+            return null; // reported only when a row key needs to be deserialized
+        }
+    }
+
+    Class<T> getEntityClass() {
+        return clazz;
+    }
+
+    WrappedHBTable<R, T> getHBTable() {
+        return hbTable;
+    }
+
+    Type getRowKeyType() {
+        if (rowKeyType == null) {
+            throw new InternalError(new NoSuchMethodException(String.format("%s.composeRowKey()", clazz.getName())));
+        }
+        return rowKeyType;
+    }
+
+    /**
+     * Codec for serializing row keys, salting them if the table is salted (values are serialized as per their runtime type, so this works even if the row key type couldn't be resolved)
+     */
+    ValueCodec getRowKeyEncoder() {
+        return rowKeyCodec;
+    }
+
+    /**
+     * Codec for deserializing row keys
+     */
+    ValueCodec getRowKeyDecoder() {
+        getRowKeyType();
+        return rowKeyCodec;
+    }
+
+    /**
+     * Mapped columns, in the order in which their fields are declared
+     */
+    List<ColumnMapping> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Mapped columns, sorted by column family and then column name (the order in which HBase returns cells of a row)
+     */
+    List<ColumnMapping> getColumnsInHBaseOrder() {
+        return columnsInHBaseOrder;
+    }
+
+    ColumnMapping getColumn(String fieldName) {
+        return columnsByFieldName.get(fieldName);
+    }
+
+    T newInstance() {
+        try {
+            if (constructor == null) {
+                throw new NoSuchMethodException(String.format("%s.<init>()", clazz.getName()));
+            }
+            return constructor.newInstance();
+        } catch (Exception ex) {
+            throw new ObjectNotInstantiatableException("Error while instantiating empty constructor of " + clazz.getName(), ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %s %s", clazz.getName(), hbTable, columns);
+    }
+}
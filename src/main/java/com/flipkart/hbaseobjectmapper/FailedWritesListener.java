@@ -0,0 +1,21 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+
+/**
+ * Callback for writes of a {@link BufferedPersister} that failed after being retried by HBase
+ * <p>
+ * Since buffered writes are sent to HBase in the background, their failures can't be thrown back to callers of {@link BufferedPersister#persist(HBRecord)} and such. Instead, they're reported here, one row at a time.
+ *
+ * @param <R> Data type of row key
+ */
+@FunctionalInterface
+public interface FailedWritesListener<R extends Serializable & Comparable<R>> {
+    /**
+     * Invoked (on HBase client's thread that flushed the write buffer) for every row whose write failed
+     *
+     * @param rowKey Row key of the row that couldn't be written, as used in your code
+     * @param cause  Reason of failure, as reported by HBase
+     */
+    void onFailure(R rowKey, Throwable cause);
+}
@@ -0,0 +1,87 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Strategy used by {@link HBObjectMapper} to read values from and write values to fields of your bean-like class
+ * <p>
+ * Whichever the strategy, accessors are resolved once per field (when {@link HBObjectMapper} first encounters the class) and not once per value.
+ *
+ * @see HBObjectMapper#HBObjectMapper(com.flipkart.hbaseobjectmapper.codec.Codec, FieldAccessStrategy)
+ */
+public enum FieldAccessStrategy {
+    /**
+     * Access fields through {@link Field#get(Object)} and {@link Field#set(Object, Object)} (default)
+     */
+    REFLECTION {
+        @Override
+        FieldAccessor accessorFor(Field field) {
+            field.setAccessible(true);
+            return new FieldAccessor() {
+                @Override
+                public Object get(Object obj) throws IllegalAccessException {
+                    return field.get(obj);
+                }
+
+                @Override
+                public void set(Object obj, Object value) throws IllegalAccessException {
+                    field.set(obj, value);
+                }
+            };
+        }
+    },
+
+    /**
+     * Access fields through {@link MethodHandle}s unreflected from the fields
+     * <p>
+     * Falls back to {@link #REFLECTION} for a field whose method handles can't be obtained.
+     * <br><br>
+     * <b>Note:</b> Method handles are held per field (not in constants), so the JIT doesn't inline them as it would a constant handle. Measure with <code>FieldAccessBenchmark</code> (under <code>src/jmh</code>) on your JVM before choosing this over {@link #REFLECTION}.
+     */
+    METHOD_HANDLES {
+        private final MethodType getterType = MethodType.methodType(Object.class, Object.class);
+        private final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+
+        @Override
+        FieldAccessor accessorFor(Field field) {
+            final MethodHandle getter, setter;
+            try {
+                field.setAccessible(true);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                getter = lookup.unreflectGetter(field).asType(getterType);
+                setter = lookup.unreflectSetter(field).asType(setterType);
+            } catch (IllegalAccessException | SecurityException e) {
+                return REFLECTION.accessorFor(field);
+            }
+            return new FieldAccessor() {
+                @Override
+                public Object get(Object obj) {
+                    try {
+                        return (Object) getter.invokeExact(obj);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new UndeclaredThrowableException(t);
+                    }
+                }
+
+                @Override
+                public void set(Object obj, Object value) {
+                    try {
+                        setter.invokeExact(obj, value);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new UndeclaredThrowableException(t);
+                    }
+                }
+            };
+        }
+    };
+
+    abstract FieldAccessor accessorFor(Field field);
+}
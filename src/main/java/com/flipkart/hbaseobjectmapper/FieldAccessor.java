@@ -0,0 +1,13 @@
+package com.flipkart.hbaseobjectmapper;
+
+/**
+ * Reads and writes the value of one field of an entity class (for internal use only)
+ * <p>
+ * Instances are created once per field (see {@link FieldAccessStrategy}) and are held in the entity's mapping plan.
+ */
+interface FieldAccessor {
+
+    Object get(Object obj) throws ReflectiveOperationException;
+
+    void set(Object obj, Object value) throws ReflectiveOperationException;
+}
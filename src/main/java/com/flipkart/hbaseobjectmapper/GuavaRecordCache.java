@@ -0,0 +1,77 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RecordCache} backed by Guava's {@link Cache}
+ * <br><br>
+ * Bounds, eviction and expiry are those of the Guava cache: e.g. construct one with {@link CacheBuilder#maximumSize(long)} or {@link CacheBuilder#maximumWeight(long)} (evicting least recently used records first) and {@link CacheBuilder#expireAfterWrite(long, TimeUnit)}, or use {@link #of(long, long, TimeUnit)}.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public class GuavaRecordCache<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements RecordCache<R, T> {
+    private final Cache<R, T> cache;
+
+    /**
+     * @param cache Guava cache to hold records in (build it with {@link CacheBuilder#recordStats()}, for {@link #stats()} to be meaningful)
+     */
+    public GuavaRecordCache(Cache<R, T> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Construct a cache bounded by number of records, whose entries expire a fixed time after they're written (statistics are recorded)
+     *
+     * @param maximumSize Maximum number of records to hold (least recently used records are evicted first, beyond this)
+     * @param ttl         Time after which a cached record expires
+     * @param unit        Unit of <code>ttl</code>
+     * @param <R>         Data type of row key
+     * @param <T>         Entity type
+     * @return A new cache
+     */
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> GuavaRecordCache<R, T> of(long maximumSize, long ttl, TimeUnit unit) {
+        final Cache<R, T> cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl, unit)
+                .recordStats()
+                .build();
+        return new GuavaRecordCache<>(cache);
+    }
+
+    @Override
+    public T getIfPresent(R rowKey) {
+        return cache.getIfPresent(rowKey);
+    }
+
+    @Override
+    public void put(R rowKey, T record) {
+        cache.put(rowKey, record);
+    }
+
+    @Override
+    public void invalidate(R rowKey) {
+        cache.invalidate(rowKey);
+    }
+
+    /**
+     * Get statistics of this cache: hits, misses and evictions (among others)
+     *
+     * @return A snapshot of statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return Approximate number of records in this cache
+     */
+    public long size() {
+        return cache.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.flipkart.hbaseobjectmapper;
 
 import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
 import com.flipkart.hbaseobjectmapper.codec.Codec;
+import com.flipkart.hbaseobjectmapper.codec.ValueCodec;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
 import com.flipkart.hbaseobjectmapper.exceptions.InternalError;
@@ -15,6 +16,8 @@ import org.apache.hadoop.hbase.util.Bytes;
 import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>An <b>object mapper class</b> that helps<ol>
@@ -39,17 +42,38 @@ public class HBObjectMapper {
 
     private final Codec codec;
 
+    private final FieldAccessStrategy fieldAccessStrategy;
+
+    private final ConcurrentMap<Class<?>, EntityMapping<?, ?>> entityMappings = new ConcurrentHashMap<>();
+
+    private final Set<Class<?>> validatedClasses = ConcurrentHashMap.newKeySet();
+
     /**
-     * Instantiate object of this class with a custom {@link Codec}
+     * Instantiate object of this class with a custom {@link Codec} and a custom {@link FieldAccessStrategy}
      *
-     * @param codec Codec to be used for serialization and deserialization of fields
-     * @see #HBObjectMapper()
+     * @param codec               Codec to be used for serialization and deserialization of fields
+     * @param fieldAccessStrategy Strategy to be used for reading from and writing to fields of your bean-like classes
+     * @see #HBObjectMapper(Codec)
      */
-    public HBObjectMapper(Codec codec) {
+    public HBObjectMapper(Codec codec, FieldAccessStrategy fieldAccessStrategy) {
         if (codec == null) {
             throw new IllegalArgumentException("Parameter 'codec' cannot be null. If you want to use the default codec, use the no-arg constructor");
         }
+        if (fieldAccessStrategy == null) {
+            throw new IllegalArgumentException("Parameter 'fieldAccessStrategy' cannot be null. If you want to use the default strategy, use the single-arg constructor");
+        }
         this.codec = codec;
+        this.fieldAccessStrategy = fieldAccessStrategy;
+    }
+
+    /**
+     * Instantiate object of this class with a custom {@link Codec}
+     *
+     * @param codec Codec to be used for serialization and deserialization of fields
+     * @see #HBObjectMapper()
+     */
+    public HBObjectMapper(Codec codec) {
+        this(codec, FieldAccessStrategy.REFLECTION);
     }
 
     /**
@@ -62,7 +86,7 @@ public class HBObjectMapper {
     }
 
     /**
-     * Serialize row key
+     * Serialize row key (without salt, if the table is salted)
      *
      * @param rowKey Object representing row key
      * @param <R>    Data type of row key
@@ -72,56 +96,123 @@ public class HBObjectMapper {
         return valueToByteArray(rowKey, codecFlags);
     }
 
+    /**
+     * Serialize row key of an entity class, as stored in HBase (i.e. salted, if the table is salted)
+     */
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> byte[] rowKeyToBytes(R rowKey, Class<T> entityClass) {
+        return valueToByteArray(rowKey, getEntityMapping(entityClass).getRowKeyEncoder());
+    }
+
+    /**
+     * Deserialize row key (of an entity class), from a slice of a <code>byte[]</code> (e.g. row of an HBase cell within its backing array)
+     * <p>
+     * Row key type and codec flags are resolved once per entity class (see {@link EntityMapping#getRowKeyDecoder()})
+     */
     @SuppressWarnings("unchecked")
-    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> R bytesToRowKey(byte[] rowKeyBytes, Map<String, String> codecFlags, Class<T> entityClass) {
-        try {
-            return (R) byteArrayToValue(rowKeyBytes, entityClass.getDeclaredMethod("composeRowKey").getReturnType(), codecFlags);
-        } catch (NoSuchMethodException e) {
-            throw new InternalError(e);
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> R bytesToRowKey(byte[] rowKeyBytes, int offset, int length, Class<T> entityClass) {
+        return (R) byteArrayToValue(rowKeyBytes, offset, length, getEntityMapping(entityClass).getRowKeyDecoder());
+    }
+
+    /**
+     * Get the (cached) mapping plan for an entity class, building it on first use
+     * <p>
+     * Note: This method doesn't validate the class (see {@link #validateHBClass(Class)})
+     *
+     * @param clazz Entity class
+     * @param <R>   Data type of row key
+     * @param <T>   Entity type
+     * @return Mapping plan for the entity class
+     */
+    @SuppressWarnings("unchecked")
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> EntityMapping<R, T> getEntityMapping(Class<T> clazz) {
+        EntityMapping<?, ?> entityMapping = entityMappings.get(clazz);
+        if (entityMapping == null) {
+            entityMapping = entityMappings.computeIfAbsent(clazz, c -> new EntityMapping<>(clazz, getHBColumnFields0(clazz), codec, fieldAccessStrategy));
         }
+        return (EntityMapping<R, T>) entityMapping;
     }
 
     /**
      * Core method that drives deserialization
+     * <p>
+     * Walks the cells once, merge-joining them against the entity's columns (both sorted in HBase order) and decodes values straight off the cells, without building intermediate maps.
+     * Cells that aren't in HBase order (e.g. those of a {@link Put} or a hand-built {@link Result}) are tolerated, by rewinding the join.
      *
      * @see #convertRecordToMap(HBRecord)
      */
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T convertMapToRecord(
-            byte[] rowKeyBytes,
-            NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map,
-            Class<T> clazz) {
-        Collection<Field> fields = getHBColumnFields0(clazz).values();
-        WrappedHBTable<R, T> hbTable = new WrappedHBTable<>(clazz);
-        R rowKey = bytesToRowKey(rowKeyBytes, hbTable.getCodecFlags(), clazz);
-        T record;
-        try {
-            record = clazz.getDeclaredConstructor()
-                    .newInstance();
-        } catch (Exception ex) {
-            throw new ObjectNotInstantiatableException("Error while instantiating empty constructor of " + clazz.getName(), ex);
+    @SuppressWarnings("unchecked")
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T convertCellsToRecord(byte[] rowKeyBytes, Cell[] cells, Class<T> clazz) {
+        EntityMapping<R, T> entityMapping = getEntityMapping(clazz);
+        T record = instantiateWithRowKey(entityMapping, rowKeyBytes);
+        List<ColumnMapping> columns = entityMapping.getColumnsInHBaseOrder();
+        final int numColumns = columns.size();
+        Cell[] latestCells = new Cell[numColumns];
+        NavigableMap<Long, Object>[] versions = newVersionsArray(numColumns);
+        int cursor = 0;
+        Cell previousCell = null;
+        for (Cell cell : cells) {
+            if (previousCell != null && compareColumns(previousCell, cell) > 0) {
+                cursor = 0;
+            }
+            previousCell = cell;
+            int cmp = -1;
+            while (cursor < numColumns && (cmp = columns.get(cursor).compareToColumnOf(cell)) < 0) {
+                cursor++;
+            }
+            if (cmp != 0) {
+                continue; // column isn't mapped to any field
+            }
+            ColumnMapping column = columns.get(cursor);
+            if (column.isSingleVersioned()) {
+                Cell latestCell = latestCells[cursor];
+                if (latestCell == null || cell.getTimestamp() >= latestCell.getTimestamp()) {
+                    latestCells[cursor] = cell;
+                }
+            } else {
+                if (versions[cursor] == null) {
+                    versions[cursor] = new TreeMap<>();
+                }
+                try {
+                    versions[cursor].put(cell.getTimestamp(), cellValueToValue(cell, column));
+                } catch (Exception ex) {
+                    throw couldNotSetFieldValue(record, column, ex);
+                }
+            }
         }
+        for (int i = 0; i < numColumns; i++) {
+            ColumnMapping column = columns.get(i);
+            if (latestCells[i] != null) {
+                objectSetFieldValue(record, column, latestCells[i]);
+            } else if (versions[i] != null) {
+                try {
+                    column.setValue(record, versions[i]);
+                } catch (Exception ex) {
+                    throw couldNotSetFieldValue(record, column, ex);
+                }
+            }
+        }
+        return record;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static NavigableMap<Long, Object>[] newVersionsArray(int length) {
+        return new NavigableMap[length];
+    }
+
+    private static int compareColumns(Cell cell1, Cell cell2) {
+        int cmp = CellComparator.getInstance().compareFamilies(cell1, cell2);
+        return cmp != 0 ? cmp : CellComparator.getInstance().compareQualifiers(cell1, cell2);
+    }
+
+    @SuppressWarnings("unchecked")
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T instantiateWithRowKey(EntityMapping<R, T> entityMapping, byte[] rowKeyBytes) {
+        R rowKey = (R) byteArrayToValue(rowKeyBytes, 0, rowKeyBytes.length, entityMapping.getRowKeyDecoder());
+        T record = entityMapping.newInstance();
         try {
             record.parseRowKey(rowKey);
         } catch (Exception ex) {
             throw new RowKeyCouldNotBeParsedException(String.format("Supplied row key \"%s\" could not be parsed", rowKey), ex);
         }
-        for (Field field : fields) {
-            WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-            NavigableMap<byte[], NavigableMap<Long, byte[]>> familyMap = map.get(hbColumn.familyBytes());
-            if (familyMap == null || familyMap.isEmpty()) {
-                continue;
-            }
-            NavigableMap<Long, byte[]> columnVersionsMap = familyMap.get(hbColumn.columnBytes());
-            if (hbColumn.isSingleVersioned()) {
-                if (columnVersionsMap == null || columnVersionsMap.isEmpty()) {
-                    continue;
-                }
-                Map.Entry<Long, byte[]> firstEntry = columnVersionsMap.firstEntry();
-                objectSetFieldValue(record, field, firstEntry.getValue(), hbColumn.codecFlags());
-            } else {
-                objectSetFieldValue(record, field, columnVersionsMap, hbColumn.codecFlags());
-            }
-        }
         return record;
     }
 
@@ -141,6 +232,17 @@ public class HBObjectMapper {
         }
     }
 
+    /**
+     * Same as {@link #valueToByteArray(Serializable, Map)}, but using a codec specialized for the value's field (or row key)
+     */
+    private byte[] valueToByteArray(Serializable value, ValueCodec valueCodec) {
+        try {
+            return valueCodec.serialize(value);
+        } catch (SerializationException e) {
+            throw new CodecException("Couldn't serialize", e);
+        }
+    }
+
     /**
      * <p>Serialize an object to HBase's {@link ImmutableBytesWritable}.
      * <p>This method is for use in Mappers, unit-tests for Mappers and unit-tests for Reducers.
@@ -150,10 +252,32 @@ public class HBObjectMapper {
      * @see #getRowKey
      */
     public ImmutableBytesWritable toIbw(Serializable value) {
-        return new ImmutableBytesWritable(valueToByteArray(value, null));
+        return new ImmutableBytesWritable(valueToByteArray(value, (Map<String, String>) null));
     }
 
+    /**
+     * Validates an entity class (see {@link #validateHBClass0(Class)}). Successful validations are remembered, so a class is validated only once per instance of this class.
+     *
+     * @param clazz Entity class
+     * @param <R>   Data type of row key
+     * @param <T>   Entity type
+     * @return Wrapped {@link HBTable} annotation of the entity class
+     */
     <R extends Serializable & Comparable<R>, T extends HBRecord<R>> WrappedHBTable<R, T> validateHBClass(Class<T> clazz) {
+        if (!validatedClasses.contains(clazz)) {
+            validateHBClass0(clazz);
+            validatedClasses.add(clazz);
+        }
+        final EntityMapping<R, T> entityMapping = getEntityMapping(clazz);
+        return entityMapping.getHBTable();
+    }
+
+    /**
+     * Checks whether an entity class can be converted to HBase data types and vice-versa, throwing an appropriate exception if it can't be.
+     * <p>
+     * Internal note: Don't call this directly, call {@link #validateHBClass(Class)} instead.
+     */
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> void validateHBClass0(Class<T> clazz) {
         Constructor<?> constructor;
         try {
             constructor = clazz.getDeclaredConstructor();
@@ -187,7 +311,6 @@ public class HBObjectMapper {
         if (numOfHBColumns == 0) {
             throw new MissingHBColumnFieldsException(clazz);
         }
-        return hbTable;
     }
 
     /**
@@ -250,24 +373,23 @@ public class HBObjectMapper {
     /**
      * Core method that drives serialization
      *
-     * @see #convertMapToRecord(byte[], NavigableMap, Class)
+     * @see #convertCellsToRecord(byte[], Cell[], Class)
      */
     @SuppressWarnings("unchecked")
     private <R extends Serializable & Comparable<R>, T extends HBRecord<R>>
     NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> convertRecordToMap(T record) {
         Class<T> clazz = (Class<T>) record.getClass();
-        Collection<Field> fields = getHBColumnFields0(clazz).values();
+        EntityMapping<R, T> entityMapping = getEntityMapping(clazz);
         NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map = new TreeMap<>(Bytes.BYTES_COMPARATOR);
         int numOfFieldsToWrite = 0;
-        for (Field field : fields) {
-            WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-            if (hbColumn.isSingleVersioned()) {
-                byte[] familyName = hbColumn.familyBytes(), columnName = hbColumn.columnBytes();
+        for (ColumnMapping column : entityMapping.getColumns()) {
+            if (column.isSingleVersioned()) {
+                byte[] familyName = column.familyBytes(), columnName = column.columnBytes();
                 if (!map.containsKey(familyName)) {
                     map.put(familyName, new TreeMap<>(Bytes.BYTES_COMPARATOR));
                 }
                 Map<byte[], NavigableMap<Long, byte[]>> columns = map.get(familyName);
-                final byte[] fieldValueBytes = getFieldValueAsBytes(record, field, hbColumn.codecFlags());
+                final byte[] fieldValueBytes = getFieldValueAsBytes(record, column);
                 if (fieldValueBytes == null || fieldValueBytes.length == 0) {
                     continue;
                 }
@@ -275,11 +397,11 @@ public class HBObjectMapper {
                 singleValue.put(HConstants.LATEST_TIMESTAMP, fieldValueBytes);
                 columns.put(columnName, singleValue);
                 numOfFieldsToWrite++;
-            } else if (hbColumn.isMultiVersioned()) {
-                NavigableMap<Long, byte[]> fieldValueVersions = getFieldValuesAsNavigableMapOfBytes(record, field, hbColumn.codecFlags());
+            } else if (column.isMultiVersioned()) {
+                NavigableMap<Long, byte[]> fieldValueVersions = getFieldValuesAsNavigableMapOfBytes(record, column);
                 if (fieldValueVersions == null)
                     continue;
-                byte[] familyName = hbColumn.familyBytes(), columnName = hbColumn.columnBytes();
+                byte[] familyName = column.familyBytes(), columnName = column.columnBytes();
                 if (!map.containsKey(familyName)) {
                     map.put(familyName, new TreeMap<>(Bytes.BYTES_COMPARATOR));
                 }
@@ -294,22 +416,20 @@ public class HBObjectMapper {
         return map;
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> byte[] getFieldValueAsBytes(T record, Field field, Map<String, String> codecFlags) {
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> byte[] getFieldValueAsBytes(T record, ColumnMapping column) {
         Serializable fieldValue;
         try {
-            field.setAccessible(true);
-            fieldValue = (Serializable) field.get(record);
-        } catch (IllegalAccessException e) {
+            fieldValue = (Serializable) column.getValue(record);
+        } catch (ReflectiveOperationException e) {
             throw new BadHBaseLibStateException(e);
         }
-        return valueToByteArray(fieldValue, codecFlags);
+        return valueToByteArray(fieldValue, column.valueCodec());
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> NavigableMap<Long, byte[]> getFieldValuesAsNavigableMapOfBytes(T record, Field field, Map<String, String> codecFlags) {
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> NavigableMap<Long, byte[]> getFieldValuesAsNavigableMapOfBytes(T record, ColumnMapping column) {
         try {
-            field.setAccessible(true);
             @SuppressWarnings("unchecked")
-            NavigableMap<Long, R> fieldValueVersions = (NavigableMap<Long, R>) field.get(record);
+            NavigableMap<Long, R> fieldValueVersions = (NavigableMap<Long, R>) column.getValue(record);
             if (fieldValueVersions == null)
                 return null;
             if (fieldValueVersions.size() == 0) {
@@ -321,11 +441,11 @@ public class HBObjectMapper {
                 R fieldValue = e.getValue();
                 if (fieldValue == null)
                     continue;
-                byte[] fieldValueBytes = valueToByteArray(fieldValue, codecFlags);
+                byte[] fieldValueBytes = valueToByteArray(fieldValue, column.valueCodec());
                 output.put(timestamp, fieldValueBytes);
             }
             return output;
-        } catch (IllegalAccessException e) {
+        } catch (ReflectiveOperationException e) {
             throw new BadHBaseLibStateException(e);
         }
     }
@@ -464,6 +584,25 @@ public class HBObjectMapper {
         return readValueFromResult(result, clazz);
     }
 
+    /**
+     * Lazy variant of {@link #readValue(Result, Class)}: wraps the {@link Result} in a {@link LazyRecord}, which deserializes a field only when it's accessed
+     *
+     * @param result HBase's {@link Result} object
+     * @param clazz  {@link Class} to which you want to convert to (must implement {@link HBRecord} interface)
+     * @param <R>    Data type of row key
+     * @param <T>    Entity type
+     * @return Lazily deserialized record, or <code>null</code> if the result is empty
+     */
+    public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> LazyRecord<R, T> readValueLazily(Result result, Class<T> clazz) {
+        validateHBClass(clazz);
+        return readLazyValueFromResult(result, clazz);
+    }
+
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> LazyRecord<R, T> readLazyValueFromResult(Result result, Class<T> clazz) {
+        if (isResultEmpty(result)) return null;
+        return new LazyRecord<>(this, getEntityMapping(clazz), result.getRow(), result.rawCells());
+    }
+
     private boolean isResultEmpty(Result result) {
         if (result == null || result.isEmpty()) return true;
         byte[] rowBytes = result.getRow();
@@ -472,42 +611,125 @@ public class HBObjectMapper {
 
     <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromResult(Result result, Class<T> clazz) {
         if (isResultEmpty(result)) return null;
-        return convertMapToRecord(result.getRow(), result.getMap(), clazz);
+        return convertCellsToRecord(result.getRow(), result.rawCells(), clazz);
+    }
+
+    /**
+     * Decodes all versions of a field's column from a {@link Result}, in one pass over its cells (for internal use by DAOs)
+     *
+     * @return Values of the column keyed by their timestamps, or <code>null</code> if the result has no cells for the column
+     */
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> NavigableMap<Long, Object> readColumnVersions(Result result, Class<T> clazz, String fieldName) {
+        final ColumnMapping column = getEntityMapping(clazz).getColumn(fieldName);
+        NavigableMap<Long, Object> versions = null;
+        for (Cell cell : result.rawCells()) {
+            if (column.compareToColumnOf(cell) == 0) {
+                if (versions == null) {
+                    versions = new TreeMap<>();
+                }
+                versions.put(cell.getTimestamp(), cellValueToValue(cell, column));
+            } else if (versions != null) {
+                break; // cells of a column are contiguous
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Decodes value of a field from cells of a row, as {@link #convertCellsToRecord(byte[], Cell[], Class)} would set it: the latest version for a single-versioned field and all versions keyed by timestamp for a multi-versioned field
+     *
+     * @return Value of the field, or <code>null</code> if the cells have no value for it
+     */
+    Object readFieldValue(Cell[] cells, ColumnMapping column) {
+        if (column.isSingleVersioned()) {
+            Cell latestCell = null;
+            for (Cell cell : cells) {
+                if (column.compareToColumnOf(cell) == 0 && (latestCell == null || cell.getTimestamp() >= latestCell.getTimestamp())) {
+                    latestCell = cell;
+                }
+            }
+            return latestCell == null ? null : cellValueToValue(latestCell, column);
+        }
+        NavigableMap<Long, Object> versions = null;
+        for (Cell cell : cells) {
+            if (column.compareToColumnOf(cell) == 0) {
+                if (versions == null) {
+                    versions = new TreeMap<>();
+                }
+                versions.put(cell.getTimestamp(), cellValueToValue(cell, column));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Sets a (decoded) value on a field of a record, as {@link #convertCellsToRecord(byte[], Cell[], Class)} would
+     */
+    void setFieldValue(Object record, ColumnMapping column, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            column.setValue(record, value);
+        } catch (ReflectiveOperationException e) {
+            throw couldNotSetFieldValue(record, column, e);
+        }
     }
 
     private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndResult(byte[] rowKeyBytes, Result result, Class<T> clazz) {
         if (isResultEmpty(result)) {
             return null;
         }
-        return convertMapToRecord(rowKeyBytes, result.getMap(), clazz);
+        return convertCellsToRecord(rowKeyBytes, result.rawCells(), clazz);
     }
 
-    private void objectSetFieldValue(Object obj, Field field, NavigableMap<Long, byte[]> columnValuesVersioned, Map<String, String> codecFlags) {
-        if (columnValuesVersioned == null)
+    private void objectSetFieldValue(Object obj, ColumnMapping column, Cell cell) {
+        if (cell.getValueLength() == 0)
             return;
         try {
-            field.setAccessible(true);
-            NavigableMap<Long, Object> columnValuesVersionedBoxed = new TreeMap<>();
-            for (Map.Entry<Long, byte[]> versionAndValue : columnValuesVersioned.entrySet()) {
-                columnValuesVersionedBoxed.put(versionAndValue.getKey(), byteArrayToValue(versionAndValue.getValue(), ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1], codecFlags));
-            }
-            field.set(obj, columnValuesVersionedBoxed);
-        } catch (Exception ex) {
-            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", field.getName(), obj.getClass()), ex);
+            column.setValue(obj, cellValueToValue(cell, column));
+        } catch (ReflectiveOperationException e) {
+            throw couldNotSetFieldValue(obj, column, e);
         }
     }
 
-    private void objectSetFieldValue(Object obj, Field field, byte[] value, Map<String, String> codecFlags) {
-        if (value == null || value.length == 0)
-            return;
+    private static ConversionFailedException couldNotSetFieldValue(Object obj, ColumnMapping column, Exception ex) {
+        return new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", column.fieldName(), obj.getClass()), ex);
+    }
+
+    private Object cellValueToValue(Cell cell, ColumnMapping column) {
+        return byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), column.valueCodec());
+    }
+
+    /**
+     * Converts a slice of a byte array (e.g. the value of a {@link Cell} within its backing array) to appropriate data type (boxed as object)
+     *
+     * @see #byteArrayToValue(byte[], Type, Map)
+     */
+    Object byteArrayToValue(byte[] array, int offset, int length, Type type, Map<String, String> codecFlags) {
         try {
-            field.setAccessible(true);
-            field.set(obj, byteArrayToValue(value, field.getGenericType(), codecFlags));
-        } catch (IllegalAccessException e) {
-            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", field.getName(), obj.getClass()), e);
+            if (array == null || length == 0)
+                return null;
+            else
+                return codec.deserialize(array, offset, length, type, codecFlags);
+        } catch (DeserializationException e) {
+            throw new CodecException("Error while deserializing", e);
         }
     }
 
+    /**
+     * Same as {@link #byteArrayToValue(byte[], int, int, Type, Map)}, but using a codec specialized for the value's field (or row key)
+     */
+    private Object byteArrayToValue(byte[] array, int offset, int length, ValueCodec valueCodec) {
+        try {
+            if (array == null || length == 0)
+                return null;
+            else
+                return valueCodec.deserialize(array, offset, length);
+        } catch (DeserializationException e) {
+            throw new CodecException("Error while deserializing", e);
+        }
+    }
 
     /**
      * Converts a byte array representing HBase column data to appropriate data type (boxed as object)
@@ -546,23 +768,11 @@ public class HBObjectMapper {
     }
 
     private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndPut(byte[] rowKeyBytes, Put put, Class<T> clazz) {
-        Map<byte[], List<Cell>> rawMap = put.getFamilyCellMap();
-        NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map = new TreeMap<>(Bytes.BYTES_COMPARATOR);
-        for (Map.Entry<byte[], List<Cell>> familyNameAndColumnValues : rawMap.entrySet()) {
-            byte[] family = familyNameAndColumnValues.getKey();
-            if (!map.containsKey(family)) {
-                map.put(family, new TreeMap<>(Bytes.BYTES_COMPARATOR));
-            }
-            List<Cell> cellList = familyNameAndColumnValues.getValue();
-            for (Cell cell : cellList) {
-                byte[] column = CellUtil.cloneQualifier(cell);
-                if (!map.get(family).containsKey(column)) {
-                    map.get(family).put(column, new TreeMap<>());
-                }
-                map.get(family).get(column).put(cell.getTimestamp(), CellUtil.cloneValue(cell));
-            }
+        List<Cell> cells = new ArrayList<>(put.size());
+        for (List<Cell> familyCells : put.getFamilyCellMap().values()) {
+            cells.addAll(familyCells);
         }
-        return convertMapToRecord(rowKeyBytes, map, clazz);
+        return convertCellsToRecord(rowKeyBytes, cells.toArray(new Cell[0]), clazz);
     }
 
     private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromPut(Put put, Class<T> clazz) {
@@ -621,8 +831,8 @@ public class HBObjectMapper {
             throw new RowKeyCantBeEmptyException();
         }
         @SuppressWarnings("unchecked")
-        WrappedHBTable<R, T> hbTable = new WrappedHBTable<>((Class<T>) record.getClass());
-        return valueToByteArray(rowKey, hbTable.getCodecFlags());
+        EntityMapping<R, T> entityMapping = getEntityMapping((Class<T>) record.getClass());
+        return valueToByteArray(rowKey, entityMapping.getRowKeyEncoder());
     }
 
     /**
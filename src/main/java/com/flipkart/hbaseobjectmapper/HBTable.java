@@ -46,4 +46,15 @@ public @interface HBTable {
      * @return Flags
      */
     Flag[] rowKeyCodecFlags() default {};
+
+    /**
+     * <b>[optional]</b> number of buckets to salt row keys into (between 1 and 256), to spread writes of monotonically increasing row keys (e.g. timestamps or sequence numbers) across regions
+     * <p>
+     * When set, every row key is stored prefixed with a byte that identifies its bucket, derived from a hash of the serialized row key. This is transparent to reads and writes by row key. Scans through DAOs are run as one scan per bucket, with results merged back in order of row keys: for such scans, start/stop rows and prefixes are serialized row keys <i>without</i> the salt (see {@link AbstractHBDAO#toUnsaltedBytes(Serializable)}).
+     * <p>
+     * Note: Changing this for a table that has data makes existing rows unreachable by row key. Filters on row keys (e.g. {@link org.apache.hadoop.hbase.filter.RowFilter}) see salted row keys.
+     *
+     * @return Number of salt buckets (0, for no salting)
+     */
+    int saltBuckets() default 0;
 }
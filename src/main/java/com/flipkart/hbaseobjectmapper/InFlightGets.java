@@ -0,0 +1,171 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent gets of a row (for the same number of versions and the same fields), so that they share one call to HBase and one deserialization (for internal use only)
+ * <p>
+ * Gets are grouped by serialized row key, so that a write to a row can stop sharing all gets of it in one step. A get is shared only with callers that arrive while it's in flight: its outcome isn't retained beyond that.
+ *
+ * @param <T> Type of outcome of a get (e.g. entity type)
+ */
+class InFlightGets<T> {
+
+    /**
+     * Fetches a row (e.g. through {@link org.apache.hadoop.hbase.client.Table#get(org.apache.hadoop.hbase.client.Get)})
+     */
+    @FunctionalInterface
+    interface Fetcher<T> {
+        T fetch() throws IOException;
+    }
+
+    private final ConcurrentHashMap<ByteBuffer, ConcurrentHashMap<Variant, CompletableFuture<T>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Get a row, joining a get of it that's in flight (if any)
+     *
+     * @param row         Row key (serialized)
+     * @param numVersions Number of versions to fetch
+     * @param fieldNames  Names of fields to fetch (<code>null</code>, for all fields)
+     * @param fetcher     Fetches the row, if no get of it is in flight
+     * @return Outcome of the get
+     * @throws IOException When HBase call fails (for callers that joined a get in flight, this wraps the exception of that get)
+     */
+    T get(byte[] row, int numVersions, Set<String> fieldNames, Fetcher<T> fetcher) throws IOException {
+        final ByteBuffer rowKey = ByteBuffer.wrap(row);
+        final Variant variant = new Variant(numVersions, fieldNames);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<T> inFlightFuture = join(rowKey, variant, future);
+        if (inFlightFuture != null) {
+            return await(inFlightFuture);
+        }
+        final T value;
+        try {
+            value = fetcher.fetch();
+        } catch (IOException | RuntimeException | Error e) {
+            leave(rowKey, variant, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        leave(rowKey, variant, future);
+        future.complete(value);
+        return value;
+    }
+
+    /**
+     * Get a row asynchronously, joining a get of it that's in flight (if any)
+     *
+     * @param row         Row key (serialized)
+     * @param numVersions Number of versions to fetch
+     * @param fieldNames  Names of fields to fetch (<code>null</code>, for all fields)
+     * @param fetcher     Starts fetching the row, if no get of it is in flight
+     * @return Outcome of the get (a future of its own for every caller, so that one caller completing or cancelling it doesn't affect others)
+     */
+    CompletableFuture<T> getAsync(byte[] row, int numVersions, Set<String> fieldNames, Supplier<CompletableFuture<T>> fetcher) {
+        final ByteBuffer rowKey = ByteBuffer.wrap(row);
+        final Variant variant = new Variant(numVersions, fieldNames);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<T> inFlightFuture = join(rowKey, variant, future);
+        if (inFlightFuture != null) {
+            return inFlightFuture.thenApply(Function.identity());
+        }
+        final CompletableFuture<T> fetched;
+        try {
+            fetched = fetcher.get();
+        } catch (RuntimeException | Error e) {
+            leave(rowKey, variant, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        fetched.whenComplete((value, error) -> {
+            leave(rowKey, variant, future);
+            if (error == null) {
+                future.complete(value);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Stop sharing gets of a row that are in flight (e.g. after it's written to, so that subsequent gets see the write)
+     *
+     * @param row Row key (serialized)
+     */
+    void forget(byte[] row) {
+        if (!inFlight.isEmpty()) {
+            inFlight.remove(ByteBuffer.wrap(row));
+        }
+    }
+
+    /**
+     * @return Get of the row that's in flight, if any (else, <code>null</code>, with the given get registered as in flight)
+     */
+    private CompletableFuture<T> join(ByteBuffer row, Variant variant, CompletableFuture<T> future) {
+        return inFlight.computeIfAbsent(row, r -> new ConcurrentHashMap<>(2)).putIfAbsent(variant, future);
+    }
+
+    /**
+     * Unregister a get that's no longer in flight
+     * <p>
+     * A get registered while its row's gets are being dropped here (or by {@link #forget(byte[])}) may end up not shared with later callers: that costs a call to HBase, not correctness.
+     */
+    private void leave(ByteBuffer row, Variant variant, CompletableFuture<T> future) {
+        final ConcurrentHashMap<Variant, CompletableFuture<T>> rowGets = inFlight.get(row);
+        if (rowGets != null && rowGets.remove(variant, future) && rowGets.isEmpty()) {
+            inFlight.remove(row, rowGets);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a get of the same row that's in flight");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("A get of the same row that's in flight failed", cause);
+        }
+    }
+
+    private static class Variant {
+        private final int numVersions;
+        private final Set<String> fieldNames;
+        private final int hashCode;
+
+        Variant(int numVersions, Set<String> fieldNames) {
+            this.numVersions = numVersions;
+            this.fieldNames = fieldNames;
+            this.hashCode = 31 * numVersions + Objects.hashCode(fieldNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Variant)) return false;
+            Variant variant = (Variant) o;
+            return hashCode == variant.hashCode && numVersions == variant.numVersions && Objects.equals(fieldNames, variant.fieldNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
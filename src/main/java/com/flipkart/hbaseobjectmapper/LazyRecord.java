@@ -0,0 +1,109 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.exceptions.CodecException;
+import org.apache.hadoop.hbase.Cell;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A record whose fields are deserialized only when they're accessed
+ * <br><br>
+ * This retains the raw cells of an HBase row and decodes a field (through the codec) on its first access, remembering the decoded value for subsequent accesses. So, fields that are never accessed (e.g. large JSON-serialized {@link Map}s or {@link java.util.List}s) cost nothing to deserialize.
+ * <br><br>
+ * Get instances of this class through {@link AbstractHBDAO#lazyRecords(org.apache.hadoop.hbase.client.Scan)} or {@link HBObjectMapper#readValueLazily(org.apache.hadoop.hbase.client.Result, Class)}.
+ * <br><br>
+ * <b>Note</b>: This class is <u>not</u> thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public class LazyRecord<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+    private final HBObjectMapper hbObjectMapper;
+    private final EntityMapping<R, T> entityMapping;
+    private final byte[] rowKeyBytes;
+    private final Cell[] cells;
+    private final Map<String, Object> decodedValues = new HashMap<>();
+    private R rowKey;
+
+    LazyRecord(HBObjectMapper hbObjectMapper, EntityMapping<R, T> entityMapping, byte[] rowKeyBytes, Cell[] cells) {
+        this.hbObjectMapper = hbObjectMapper;
+        this.entityMapping = entityMapping;
+        this.rowKeyBytes = rowKeyBytes;
+        this.cells = cells;
+    }
+
+    /**
+     * Get row key of this record
+     *
+     * @return Row key, deserialized (on first call)
+     */
+    public R getRowKey() {
+        if (rowKey == null) {
+            rowKey = hbObjectMapper.bytesToRowKey(rowKeyBytes, 0, rowKeyBytes.length, entityMapping.getEntityClass());
+        }
+        return rowKey;
+    }
+
+    /**
+     * Get value of a field, deserializing it if this is its first access
+     * <br><br>
+     * The value is what the field would be set to in a fully deserialized record: for a field annotated with {@link HBColumn}, the latest version of its column and for a field annotated with {@link HBColumnMultiVersion}, a {@link java.util.NavigableMap} of versions keyed by timestamp.
+     *
+     * @param fieldName Name of the field (private variable of your bean-like class)
+     * @param <V>       Type of the field (inferred from the call site; a mismatch surfaces as a {@link ClassCastException} there)
+     * @return Value of the field, or <code>null</code> if the row has no value for it
+     * @throws IllegalArgumentException If the field name isn't recognized
+     * @throws CodecException           If the column value couldn't be deserialized into field type
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String fieldName) {
+        if (decodedValues.containsKey(fieldName)) {
+            return (V) decodedValues.get(fieldName);
+        }
+        Object value = hbObjectMapper.readFieldValue(cells, getColumn(fieldName));
+        decodedValues.put(fieldName, value);
+        return (V) value;
+    }
+
+    /**
+     * Get an object of your bean-like class with only given fields set (deserializing those not accessed yet)
+     *
+     * @param fieldNames Names of fields to set
+     * @return A new object of your bean-like class, with row key and given fields set
+     * @throws IllegalArgumentException If a field name isn't recognized
+     * @throws CodecException           If a column value couldn't be deserialized into field type
+     */
+    public T toRecord(Set<String> fieldNames) {
+        T record = hbObjectMapper.instantiateWithRowKey(entityMapping, rowKeyBytes);
+        for (String fieldName : fieldNames) {
+            hbObjectMapper.setFieldValue(record, getColumn(fieldName), get(fieldName));
+        }
+        return record;
+    }
+
+    /**
+     * Get a fully deserialized object of your bean-like class (equivalent to {@link HBObjectMapper#readValue(org.apache.hadoop.hbase.client.Result, Class)})
+     *
+     * @return A new object of your bean-like class, with all fields set
+     * @throws CodecException If a column value couldn't be deserialized into field type
+     */
+    public T toRecord() {
+        return hbObjectMapper.convertCellsToRecord(rowKeyBytes, cells, entityMapping.getEntityClass());
+    }
+
+    private ColumnMapping getColumn(String fieldName) {
+        ColumnMapping column = entityMapping.getColumn(fieldName);
+        if (column == null) {
+            throw new IllegalArgumentException(String.format("Unrecognized field: '%s' (in %s)", fieldName, entityMapping.getEntityClass().getName()));
+        }
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LazyRecord(%s, row key %s)", entityMapping.getEntityClass().getSimpleName(), getRowKey());
+    }
+}
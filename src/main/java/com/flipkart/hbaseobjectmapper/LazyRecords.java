@@ -0,0 +1,61 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Iterator;
+
+/**
+ * Lazily deserialized records matching a scan (see {@link LazyRecord}), as returned by {@link AbstractHBDAO#lazyRecords(Scan)}
+ * <br><br>
+ * Users of this library are <u>not</u> expected to instantiate this class on their own.
+ * <br><br>
+ * <b>Note</b>: This class is <u>not</u> thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public class LazyRecords<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements Closeable, Iterable<LazyRecord<R, T>> {
+    private final HBObjectMapper hbObjectMapper;
+    private final Class<T> clazz;
+    private final Table table;
+    private final ResultScanner scanner;
+
+    LazyRecords(Connection connection, HBObjectMapper hbObjectMapper, Class<T> clazz, TableName tableName, Scan scan) throws IOException {
+        hbObjectMapper.validateHBClass(clazz);
+        this.hbObjectMapper = hbObjectMapper;
+        this.clazz = clazz;
+        this.table = connection.getTable(tableName);
+        this.scanner = hbObjectMapper.getEntityMapping(clazz).getHBTable().getScanner(scan, table::getScanner);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scanner.close();
+        table.close();
+    }
+
+    @SuppressWarnings("NullableProblems")
+    @Override
+    public Iterator<LazyRecord<R, T>> iterator() {
+        final Iterator<Result> resultIterator = scanner.iterator();
+        return new Iterator<LazyRecord<R, T>>() {
+            @Override
+            public boolean hasNext() {
+                return resultIterator.hasNext();
+            }
+
+            @Override
+            public LazyRecord<R, T> next() {
+                return hbObjectMapper.readLazyValueFromResult(resultIterator.next(), clazz);
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Scanner that merges results of multiple scanners, each of which returns results in order, into a single ordered sequence (for internal use only)
+ * <p>
+ * Only the head result of every scanner is held at a time.
+ */
+class MergingResultScanner implements ResultScanner {
+    private final List<ResultScanner> scanners;
+    private final int limit;
+    private final PriorityQueue<Head> heads;
+    private boolean started = false;
+    private int count = 0;
+
+    /**
+     * @param scanners   Scanners to merge results of
+     * @param comparator Order of results
+     * @param limit      Maximum number of results to return (0 or less, for no limit)
+     */
+    MergingResultScanner(List<ResultScanner> scanners, Comparator<Result> comparator, int limit) {
+        this.scanners = scanners;
+        this.limit = limit;
+        this.heads = new PriorityQueue<>(Math.max(scanners.size(), 1), (h1, h2) -> comparator.compare(h1.result, h2.result));
+    }
+
+    @Override
+    public Result next() throws IOException {
+        if (!started) {
+            started = true;
+            for (ResultScanner scanner : scanners) {
+                advance(scanner);
+            }
+        }
+        if (limit > 0 && count >= limit) {
+            return null;
+        }
+        final Head head = heads.poll();
+        if (head == null) {
+            return null;
+        }
+        advance(head.scanner);
+        count++;
+        return head.result;
+    }
+
+    private void advance(ResultScanner scanner) throws IOException {
+        final Result result = scanner.next();
+        if (result != null) {
+            heads.add(new Head(scanner, result));
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ResultScanner scanner : scanners) {
+            scanner.close();
+        }
+    }
+
+    @Override
+    public boolean renewLease() {
+        boolean renewed = true;
+        for (ResultScanner scanner : scanners) {
+            renewed &= scanner.renewLease();
+        }
+        return renewed;
+    }
+
+    /**
+     * @return <code>null</code> (metrics are per underlying scanner)
+     */
+    @Override
+    public ScanMetrics getScanMetrics() {
+        return null;
+    }
+
+    private static class Head {
+        private final ResultScanner scanner;
+        private final Result result;
+
+        Head(ResultScanner scanner, Result result) {
+            this.scanner = scanner;
+            this.result = result;
+        }
+    }
+}
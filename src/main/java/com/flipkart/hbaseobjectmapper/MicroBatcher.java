@@ -0,0 +1,146 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates operations submitted one at a time and dispatches them in batches: once a batch has <code>maxBatchSize</code> operations or once its first operation has waited for <code>maxDelay</code>, whichever is earlier (for internal use only)
+ * <p>
+ * Outcome of every operation of a batch is fanned back out to the future returned on its submission.
+ *
+ * @param <I> Type of operation (e.g. {@link org.apache.hadoop.hbase.client.Get})
+ * @param <O> Type of outcome of an operation
+ */
+class MicroBatcher<I, O> {
+
+    /**
+     * Dispatches a batch of operations (e.g. through {@link org.apache.hadoop.hbase.client.AsyncTable#get(List)})
+     */
+    @FunctionalInterface
+    interface Dispatcher<I, O> {
+        /**
+         * @param operations Operations to dispatch
+         * @return Outcomes of operations, in order of operations
+         */
+        List<CompletableFuture<O>> dispatch(List<I> operations);
+    }
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Dispatcher<I, O> dispatcher;
+
+    private List<Pending<I, O>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed = false;
+
+    MicroBatcher(int maxBatchSize, long maxDelay, TimeUnit unit, ScheduledExecutorService scheduler, Dispatcher<I, O> dispatcher) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.scheduler = scheduler;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Submit an operation, to be dispatched with a batch
+     *
+     * @param operation Operation
+     * @return Outcome of the operation
+     * @throws IllegalStateException If this batcher is closed
+     */
+    CompletableFuture<O> submit(I operation) {
+        final CompletableFuture<O> future = new CompletableFuture<>();
+        final List<Pending<I, O>> batch;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Batcher is closed");
+            }
+            pending.add(new Pending<>(operation, future));
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else {
+                if (pending.size() == 1) {
+                    scheduledFlush = scheduler.schedule(this::flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+                }
+                batch = null;
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return future;
+    }
+
+    /**
+     * Dispatch operations accumulated so far, without waiting for the batch to fill up
+     */
+    void flush() {
+        final List<Pending<I, O>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Dispatch operations accumulated so far and reject further operations
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    private List<Pending<I, O>> takePending() {
+        final List<Pending<I, O>> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        final List<I> operations = new ArrayList<>(batch.size());
+        for (Pending<I, O> p : batch) {
+            operations.add(p.operation);
+        }
+        final List<CompletableFuture<O>> outcomes;
+        try {
+            outcomes = dispatcher.dispatch(operations);
+        } catch (RuntimeException e) {
+            for (Pending<I, O> p : batch) {
+                p.future.completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            final CompletableFuture<O> future = batch.get(i).future;
+            outcomes.get(i).whenComplete((outcome, error) -> {
+                if (error == null) {
+                    future.complete(outcome);
+                } else {
+                    future.completeExceptionally(error);
+                }
+            });
+        }
+    }
+
+    private static class Pending<I, O> {
+        private final I operation;
+        private final CompletableFuture<O> future;
+
+        Pending(I operation, CompletableFuture<O> future) {
+            this.operation = operation;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.google.common.base.Ticker;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A client-side, probabilistic cache of row keys known to be absent, which lets a DAO answer lookups of such row keys (e.g. {@link AbstractHBDAO#get(java.io.Serializable) get(R)} and {@link AbstractHBDAO#exists(java.io.Serializable) exists(R)}) without a round trip to HBase
+ * <br><br>
+ * Row keys are added to this cache when a DAO's lookup finds them missing and when the DAO deletes them. Row keys the DAO writes to (through persist, increment and append) are cleared from it. A lookup that races with a write through the DAO (or with a buffered write that isn't flushed yet) doesn't add the row key.
+ * <br><br>
+ * Row keys are held in Bloom filters, one per 'generation'. A new generation is started every <code>ttl / 2</code> (or earlier, once the current one has taken in <code>expectedAbsentRowKeys</code> row keys) and only the current and the previous generations are retained. So, a row key is forgotten between <code>ttl / 2</code> and <code>ttl</code> after it was last added and memory used stays bounded.
+ * <br><br>
+ * <b>Caution:</b>
+ * <ul>
+ * <li>Being probabilistic, this cache reports a small fraction (about <code>falsePositiveProbability</code>) of row keys that it never took in as absent. A lookup of such a row key returns <code>null</code>/<code>false</code> even if the row exists. Use this only where such an answer is acceptable (e.g. de-duplication of mostly-new keys) and monitor {@link #falsePositiveRate()}.</li>
+ * <li>Rows written by other DAO instances or processes remain reported as absent until forgotten (i.e. for up to <code>ttl</code>).</li>
+ * <li>Use an instance with one DAO only: row keys of different tables aren't told apart.</li>
+ * </ul>
+ * To measure false positives, one in every <code>verifyOneIn</code> lookups answered by this cache is verified against HBase instead (a row found by such a lookup is cleared from this cache).
+ *
+ * @see DAOOptions.Builder#negativeLookupCache(NegativeLookupCache)
+ */
+public class NegativeLookupCache {
+    private static final int DEFAULT_VERIFY_ONE_IN = 100;
+
+    private final long expectedAbsentRowKeys;
+    private final double falsePositiveProbability;
+    private final long generationNanos;
+    private final int verifyOneIn;
+    private final Ticker ticker;
+
+    private volatile Generation current, previous;
+
+    private final LongAdder lookups = new LongAdder(), hits = new LongAdder(), verifiedHits = new LongAdder(), falsePositives = new LongAdder();
+    private final AtomicLong hitSequence = new AtomicLong();
+
+    // writes and buffered (not yet flushed) writes, per stripe of rows: a lookup that finds a row missing doesn't mark it absent if its stripe was written to meanwhile
+    private final WriteSequences writeSequences = new WriteSequences();
+    private final AtomicIntegerArray pendingWrites = new AtomicIntegerArray(WriteSequences.STRIPES);
+
+    /**
+     * Constructs a cache, which verifies one in every 100 lookups it answers (see class-level documentation)
+     *
+     * @param expectedAbsentRowKeys    Number of absent row keys expected to be added over <code>ttl / 2</code> (sizes the Bloom filters)
+     * @param falsePositiveProbability Desired probability of a row key that wasn't added being reported as absent (e.g. 0.001)
+     * @param ttl                      Time after which an absent row key is forgotten
+     * @param unit                     Unit of <code>ttl</code>
+     * @return A new cache
+     * @throws IllegalArgumentException If any of the parameters is out of range
+     */
+    public static NegativeLookupCache of(long expectedAbsentRowKeys, double falsePositiveProbability, long ttl, TimeUnit unit) {
+        return new NegativeLookupCache(expectedAbsentRowKeys, falsePositiveProbability, ttl, unit, DEFAULT_VERIFY_ONE_IN, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructs a cache (see class-level documentation)
+     *
+     * @param expectedAbsentRowKeys    Number of absent row keys expected to be added over <code>ttl / 2</code> (sizes the Bloom filters)
+     * @param falsePositiveProbability Desired probability of a row key that wasn't added being reported as absent (e.g. 0.001)
+     * @param ttl                      Time after which an absent row key is forgotten
+     * @param unit                     Unit of <code>ttl</code>
+     * @param verifyOneIn              Verify one in these many lookups answered by this cache against HBase (<code>0</code>, to never verify)
+     * @param ticker                   Time source (e.g. {@link Ticker#systemTicker()})
+     * @throws IllegalArgumentException If any of the parameters is out of range
+     */
+    public NegativeLookupCache(long expectedAbsentRowKeys, double falsePositiveProbability, long ttl, TimeUnit unit, int verifyOneIn, Ticker ticker) {
+        if (expectedAbsentRowKeys < 1) {
+            throw new IllegalArgumentException("Expected number of absent row keys must be positive");
+        }
+        if (!(falsePositiveProbability > 0.0 && falsePositiveProbability < 1.0)) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1 (exclusive)");
+        }
+        if (ttl < 1) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (verifyOneIn < 0) {
+            throw new IllegalArgumentException("Verification rate can't be negative");
+        }
+        this.expectedAbsentRowKeys = expectedAbsentRowKeys;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.generationNanos = Math.max(unit.toNanos(ttl) / 2, 1);
+        this.verifyOneIn = verifyOneIn;
+        this.ticker = ticker;
+        this.current = newGeneration();
+        this.previous = null;
+    }
+
+    /**
+     * Check whether a lookup of a row can be answered as 'absent' without a round trip to HBase
+     *
+     * @param row Row key (serialized)
+     * @return <code>true</code> if row is known to be absent (with a small probability of false positives)
+     */
+    boolean isKnownAbsent(byte[] row) {
+        lookups.increment();
+        if (!mightBeAbsent(row)) {
+            return false;
+        }
+        if (verifyOneIn > 0 && hitSequence.incrementAndGet() % verifyOneIn == 0) {
+            verifiedHits.increment();
+            return false; // outcome is reported through onFetched
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Capture writes to a row seen so far, before looking the row up in HBase
+     *
+     * @param row Row key (serialized)
+     * @return Write sequence, to be passed to {@link #onFetched(byte[], boolean, long)}
+     */
+    long writeSequence(byte[] row) {
+        return writeSequences.get(Arrays.hashCode(row));
+    }
+
+    /**
+     * Record outcome of a lookup of a row in HBase
+     * <p>
+     * A row found missing isn't marked absent if it (or another row of its stripe) was written to since the lookup started or has a write that's buffered but not flushed yet, since the lookup may have missed that write.
+     *
+     * @param row           Row key (serialized)
+     * @param found         Whether the row was found
+     * @param writeSequence Write sequence captured (through {@link #writeSequence(byte[])}) before the lookup started
+     */
+    void onFetched(byte[] row, boolean found, long writeSequence) {
+        if (found) {
+            if (mightBeAbsent(row)) {
+                falsePositives.increment(); // only a verified lookup (or one racing with a write) gets here
+                markPresent(row);
+            }
+            return;
+        }
+        final int rowHash = Arrays.hashCode(row);
+        if (!isUnwritten(rowHash, writeSequence)) {
+            return;
+        }
+        markAbsent(row);
+        if (!isUnwritten(rowHash, writeSequence)) {
+            markPresent(row); // a write raced with marking the row absent (and may have checked it before it was marked)
+        }
+    }
+
+    private boolean isUnwritten(int rowHash, long writeSequence) {
+        return writeSequences.get(rowHash) == writeSequence && pendingWrites.get(WriteSequences.stripe(rowHash)) == 0;
+    }
+
+    /**
+     * Record a write (e.g. persist, increment or append) to a row
+     *
+     * @param row Row key (serialized)
+     */
+    void onWritten(byte[] row) {
+        writeSequences.increment(Arrays.hashCode(row));
+        if (mightBeAbsent(row)) {
+            markPresent(row);
+        }
+    }
+
+    /**
+     * Record deletion of a row
+     *
+     * @param row Row key (serialized)
+     */
+    void onDeleted(byte[] row) {
+        markAbsent(row);
+    }
+
+    /**
+     * @return A tracker of writes buffered by a writer (e.g. a {@link BufferedPersister}), which keeps their rows from being marked absent until they're flushed
+     */
+    BufferedWrites newBufferedWrites() {
+        return new BufferedWrites();
+    }
+
+    private boolean mightBeAbsent(byte[] row) {
+        final Generation current = currentGeneration(), previous = this.previous;
+        final boolean inFilters = current.filter.mightContain(row) || (previous != null && previous.filter.mightContain(row));
+        if (!inFilters) {
+            return false;
+        }
+        final ByteBuffer key = ByteBuffer.wrap(row);
+        return !(current.present.contains(key) || (previous != null && previous.present.contains(key)));
+    }
+
+    private void markAbsent(byte[] row) {
+        final Generation current = currentGeneration(), previous = this.previous;
+        final ByteBuffer key = ByteBuffer.wrap(row);
+        current.present.remove(key);
+        if (previous != null) {
+            previous.present.remove(key);
+        }
+        current.filter.put(row);
+        if (current.insertions.incrementAndGet() >= expectedAbsentRowKeys) {
+            rotate(current);
+        }
+    }
+
+    private void markPresent(byte[] row) {
+        currentGeneration().present.add(ByteBuffer.wrap(row.clone()));
+    }
+
+    private Generation currentGeneration() {
+        final Generation current = this.current;
+        if (ticker.read() - current.startedAt >= generationNanos) {
+            rotate(current);
+            return this.current;
+        }
+        return current;
+    }
+
+    private synchronized void rotate(Generation expected) {
+        if (current != expected) {
+            return; // rotated by another thread
+        }
+        previous = ticker.read() - expected.startedAt >= 2 * generationNanos ? null : expected; // drop an idle generation right away
+        current = newGeneration();
+    }
+
+    private Generation newGeneration() {
+        return new Generation(BloomFilter.create(Funnels.byteArrayFunnel(), expectedAbsentRowKeys, falsePositiveProbability), ticker.read());
+    }
+
+    /**
+     * @return Number of lookups made through this cache
+     */
+    public long lookupCount() {
+        return lookups.sum();
+    }
+
+    /**
+     * @return Number of lookups answered as 'absent' by this cache (i.e. round trips saved)
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Ratio of {@link #hitCount()} to {@link #lookupCount()} (<code>0</code>, if there were no lookups)
+     */
+    public double hitRate() {
+        final long lookups = lookupCount();
+        return lookups == 0 ? 0.0 : (double) hitCount() / lookups;
+    }
+
+    /**
+     * @return Number of lookups this cache would've answered as 'absent', that were verified against HBase instead
+     */
+    public long verifiedCount() {
+        return verifiedHits.sum();
+    }
+
+    /**
+     * @return Number of rows found to exist, that this cache reported as absent (mostly, among verified lookups)
+     */
+    public long falsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * @return Estimated fraction of 'absent' answers that are wrong: ratio of {@link #falsePositiveCount()} to {@link #verifiedCount()} (<code>0</code>, if nothing was verified)
+     */
+    public double falsePositiveRate() {
+        final long verified = verifiedCount();
+        return verified == 0 ? 0.0 : Math.min(1.0, (double) falsePositiveCount() / verified);
+    }
+
+    /**
+     * @return Probability of a row key that wasn't added being reported as absent, per the current fill of the Bloom filter of the current generation
+     */
+    public double expectedFalsePositiveProbability() {
+        return currentGeneration().filter.expectedFpp();
+    }
+
+    /**
+     * Writes buffered by one writer, that may not have reached HBase yet (for internal use only)
+     * <p>
+     * Writes are counted per stripe of rows. {@link #detach()} takes the writes added so far, which are released (through {@link #release(int[])}) once a flush that started after detaching completes.
+     */
+    class BufferedWrites {
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(WriteSequences.STRIPES);
+
+        /**
+         * Record a write to a row, before it's buffered (the write itself is recorded through {@link #onWritten(byte[])}, once it's buffered)
+         *
+         * @param row Row key (serialized)
+         */
+        void add(byte[] row) {
+            final int stripe = WriteSequences.stripe(Arrays.hashCode(row));
+            counts.incrementAndGet(stripe);
+            pendingWrites.incrementAndGet(stripe);
+        }
+
+        /**
+         * @return Writes added so far (which aren't counted here anymore)
+         */
+        int[] detach() {
+            final int[] detached = new int[WriteSequences.STRIPES];
+            for (int i = 0; i < WriteSequences.STRIPES; i++) {
+                detached[i] = counts.getAndSet(i, 0);
+            }
+            return detached;
+        }
+
+        /**
+         * Release writes detached earlier, once they're flushed (or have failed)
+         *
+         * @param detached Writes, as returned by {@link #detach()}
+         */
+        void release(int[] detached) {
+            for (int i = 0; i < WriteSequences.STRIPES; i++) {
+                if (detached[i] != 0) {
+                    pendingWrites.addAndGet(i, -detached[i]);
+                }
+            }
+        }
+    }
+
+    private static class Generation {
+        private final BloomFilter<byte[]> filter;
+        private final Set<ByteBuffer> present = ConcurrentHashMap.newKeySet(); // rows known to exist, despite being in a filter
+        private final AtomicLong insertions = new AtomicLong();
+        private final long startedAt;
+
+        Generation(BloomFilter<byte[]> filter, long startedAt) {
+            this.filter = filter;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Records fetched by scanning disjoint row key ranges (typically, regions) of a table in parallel (for internal use only)
+ * <p>
+ * Each split scan runs on the executor, with its own {@link Table} and {@link ResultScanner}, and maps rows to records on the executor's thread. Records are handed over to the (single) consuming thread through bounded queues, so a slow consumer holds back scanning rather than letting records pile up in memory.
+ * At most <code>parallelism</code> split scans are in progress at a time: a split scan is submitted to the executor when an earlier one has been consumed fully.
+ * <ul>
+ * <li><b>Ordered</b>: every split scan has its own queue and queues are consumed in order of split scans. Since split scans cover disjoint row key ranges in order, this yields records in order of row keys (as a merge of split scans on row key would).</li>
+ * <li><b>Unordered</b>: split scans share a queue and records are consumed as they're fetched.</li>
+ * </ul>
+ *
+ * @param <T> record type
+ */
+@SuppressWarnings("rawtypes")
+class ParallelRecords<T extends HBRecord> implements Records<T> {
+    private static final Object END_OF_SPLIT = new Object();
+
+    private final Connection connection;
+    private final TableName tableName;
+    private final HBObjectMapper hbObjectMapper;
+    private final Class<T> clazz;
+    private final List<Scan> splits;
+    private final ExecutorService executor;
+    private final boolean ordered;
+    private final List<BlockingQueue<Object>> queues;
+    private final List<Future<?>> futures;
+    private volatile boolean closed = false;
+    private boolean iteratorCreated = false;
+
+    @SuppressWarnings("unchecked")
+    ParallelRecords(Connection connection, TableName tableName, HBObjectMapper hbObjectMapper, Class<T> clazz, List<Scan> splits, ExecutorService executor, int parallelism, boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        hbObjectMapper.validateHBClass(clazz);
+        this.connection = connection;
+        this.tableName = tableName;
+        this.hbObjectMapper = hbObjectMapper;
+        this.clazz = clazz;
+        this.splits = splits;
+        this.executor = executor;
+        this.ordered = ordered;
+        final int queueCapacity = Math.max(splits.get(0).getCaching(), 100);
+        if (ordered) {
+            this.queues = new ArrayList<>(splits.size());
+            for (int i = 0; i < splits.size(); i++) {
+                queues.add(new ArrayBlockingQueue<>(queueCapacity));
+            }
+        } else {
+            BlockingQueue<Object> sharedQueue = new ArrayBlockingQueue<>(queueCapacity * Math.min(parallelism, splits.size()));
+            this.queues = new ArrayList<>(splits.size());
+            for (int i = 0; i < splits.size(); i++) {
+                queues.add(sharedQueue);
+            }
+        }
+        this.futures = new ArrayList<>(splits.size());
+        for (int i = 0; i < Math.min(parallelism, splits.size()); i++) {
+            submitNextSplit();
+        }
+    }
+
+    private synchronized void submitNextSplit() {
+        final int index = futures.size();
+        if (closed || index >= splits.size()) {
+            return;
+        }
+        futures.add(executor.submit(() -> scanSplit(splits.get(index), queues.get(index))));
+    }
+
+    private void scanSplit(Scan split, BlockingQueue<Object> queue) {
+        try {
+            try (Table table = connection.getTable(tableName); ResultScanner scanner = table.getScanner(split)) {
+                for (Result result = scanner.next(); result != null && !closed; result = scanner.next()) {
+                    queue.put(mapResult(result));
+                }
+            } catch (InterruptedIOException e) {
+                throw new InterruptedException(e.getMessage());
+            } catch (IOException e) {
+                queue.put(new Failure(new UncheckedIOException(e)));
+            } catch (RuntimeException | Error e) {
+                queue.put(new Failure(e));
+            }
+            queue.put(END_OF_SPLIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // records are being closed
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T mapResult(Result result) {
+        return (T) hbObjectMapper.readValueFromResult(result, clazz);
+    }
+
+    /**
+     * Stops scanning: split scans in progress are interrupted and ones not yet started aren't run
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        for (BlockingQueue<Object> queue : queues) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException If called more than once (records can be iterated over only once, since they're fetched as they're consumed)
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (iteratorCreated) {
+            throw new IllegalStateException("Records fetched through a parallel scan can be iterated over only once");
+        }
+        iteratorCreated = true;
+        return new ParallelRecordsIterator();
+    }
+
+    private class ParallelRecordsIterator implements Iterator<T> {
+        private int numSplitsConsumed = 0;
+        private Object next = null;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && numSplitsConsumed < splits.size()) {
+                final Object element = take(queues.get(ordered ? numSplitsConsumed : 0));
+                if (element == END_OF_SPLIT) {
+                    numSplitsConsumed++;
+                    submitNextSplit();
+                } else if (element instanceof Failure) {
+                    close();
+                    throw ((Failure) element).exception;
+                } else {
+                    next = element;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T record = (T) next;
+            next = null;
+            return record;
+        }
+
+        private Object take(BlockingQueue<Object> queue) {
+            if (closed) {
+                throw new IllegalStateException("Records were closed");
+            }
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for records to be fetched"));
+            }
+        }
+    }
+
+    private static class Failure {
+        private final RuntimeException exception;
+
+        Failure(Throwable throwable) {
+            this.exception = throwable instanceof RuntimeException ? (RuntimeException) throwable : new IllegalStateException(throwable);
+        }
+    }
+}
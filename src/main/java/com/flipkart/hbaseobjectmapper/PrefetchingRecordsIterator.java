@@ -0,0 +1,179 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Iterator implementation that fetches and maps rows ahead of iteration, for internal use only
+ * <p>
+ * A fetch task (on the executor) pulls batches of rows from the scanner and submits mapping of every batch to the executor as a separate task. Mapped batches are handed over to the iterating thread in order, through a queue of <code>prefetchDepth</code> batches.
+ * So, fetching of a batch overlaps with mapping of earlier batches and with iteration, while no more than <code>prefetchDepth + 1</code> batches are held in memory.
+ *
+ * @param <T> Data type of record
+ */
+@SuppressWarnings("rawtypes")
+class PrefetchingRecordsIterator<T extends HBRecord> implements Iterator<T>, Closeable {
+    private static final CompletableFuture<List<?>> END_OF_SCAN = CompletableFuture.completedFuture(Collections.emptyList());
+
+    private final HBObjectMapper hbObjectMapper;
+    private final Class<T> clazz;
+    private final ResultScanner scanner;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final BlockingQueue<CompletableFuture<? extends List<?>>> queue;
+    private final Future<?> fetchTask;
+    private final AtomicBoolean fetchStarted = new AtomicBoolean();
+    private final CountDownLatch fetchFinished = new CountDownLatch(1);
+    private volatile boolean closed = false;
+    private Iterator<?> currentBatch = Collections.emptyIterator();
+    private boolean exhausted = false;
+
+    @SuppressWarnings("unchecked")
+    PrefetchingRecordsIterator(HBObjectMapper hbObjectMapper, Class<T> clazz, ResultScanner scanner, ExecutorService executor, int batchSize, int prefetchDepth) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be at least 1");
+        }
+        hbObjectMapper.validateHBClass(clazz); // once per iterator, not per row
+        this.hbObjectMapper = hbObjectMapper;
+        this.clazz = clazz;
+        this.scanner = scanner;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(prefetchDepth);
+        this.fetchTask = executor.submit(this::fetch);
+    }
+
+    private void fetch() {
+        if (!fetchStarted.compareAndSet(false, true)) {
+            return; // closed before fetching started
+        }
+        try {
+            try {
+                for (Result[] results = scanner.next(batchSize); results.length > 0 && !closed; results = scanner.next(batchSize)) {
+                    final Result[] batch = results;
+                    queue.put(CompletableFuture.supplyAsync(() -> map(batch), executor));
+                }
+            } catch (InterruptedIOException e) {
+                throw new InterruptedException(e.getMessage());
+            } catch (IOException e) {
+                queue.put(failed(new UncheckedIOException(e)));
+                return;
+            } catch (RuntimeException e) {
+                queue.put(failed(e));
+                return;
+            }
+            queue.put(END_OF_SCAN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // iterator is being closed
+        } finally {
+            fetchFinished.countDown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> map(Result[] results) {
+        List<T> records = new ArrayList<>(results.length);
+        for (Result result : results) {
+            records.add((T) hbObjectMapper.readValueFromResult(result, clazz));
+        }
+        return records;
+    }
+
+    private static CompletableFuture<List<?>> failed(RuntimeException e) {
+        CompletableFuture<List<?>> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentBatch.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            final CompletableFuture<? extends List<?>> batch = take();
+            if (batch == END_OF_SCAN) {
+                exhausted = true;
+                return false;
+            }
+            try {
+                currentBatch = batch.join().iterator();
+            } catch (CompletionException e) {
+                close();
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return (T) currentBatch.next();
+    }
+
+    private CompletableFuture<? extends List<?>> take() {
+        if (closed) {
+            throw new IllegalStateException("Records were closed");
+        }
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for records to be fetched"));
+        }
+    }
+
+    /**
+     * Stops fetching ahead and waits for the fetch task to stop using the scanner (the scanner itself is closed by the owner of this iterator, since {@link ResultScanner} isn't thread-safe)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        fetchTask.cancel(true);
+        queue.clear();
+        if (!fetchStarted.compareAndSet(false, true)) {
+            awaitFetchFinished();
+        }
+    }
+
+    private void awaitFetchFinished() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                fetchFinished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Closeable;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batching counterpart of {@link ReactiveHBDAO}'s single-row {@link ReactiveHBDAO#get(Serializable) get}, {@link ReactiveHBDAO#persist(HBRecord) persist} and {@link ReactiveHBDAO#delete(Serializable) delete} methods
+ * <p>
+ * Gets, puts and deletes submitted one at a time (e.g. by many concurrent callers) are accumulated and sent to HBase through the list-based {@link AsyncTable#get(List)}, {@link AsyncTable#put(List)} and {@link AsyncTable#delete(List)}: once a batch has <code>maxBatchSize</code> operations or once its first operation has waited for <code>maxDelay</code>, whichever is earlier.
+ * Every operation still completes its own future. Gets of the same row within a batch are sent as one get (the record is deserialized for every caller, though).
+ * <br><br>
+ * Get an instance through {@link ReactiveHBDAO#newBatcher(int, long, TimeUnit, ScheduledExecutorService)} and {@link #close()} it when you're done.
+ * <br><br>
+ * <b>Note:</b> Gets, puts and deletes are batched separately. So, as with {@link ReactiveHBDAO}, operations on the same row are ordered only if you wait for one to complete before submitting the next.
+ * <br><br>
+ * <b>Note:</b> Batched gets are answered from the DAO's {@link DAOOptions#getNegativeLookupCache() negative lookup cache}, if any, but aren't coalesced with the DAO's single-row gets in flight (see {@link DAOOptions#isCoalesceGets()}): writes through this batcher do stop those gets from being shared, though.
+ * <br><br>
+ * <b>This class is thread-safe.</b>
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type that maps to an HBase row
+ */
+@ThreadSafe
+public class ReactiveBatcher<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements Closeable {
+    private final ReactiveHBDAO<R, T> dao;
+    private final MicroBatcher<Get, Result> gets;
+    private final MicroBatcher<Put, Void> puts;
+    private final MicroBatcher<Delete, Void> deletes;
+
+    ReactiveBatcher(ReactiveHBDAO<R, T> dao, int maxBatchSize, long maxDelay, TimeUnit unit, ScheduledExecutorService scheduler) {
+        this.dao = dao;
+        this.gets = new MicroBatcher<>(maxBatchSize, maxDelay, unit, scheduler, this::dispatchGets);
+        this.puts = new MicroBatcher<>(maxBatchSize, maxDelay, unit, scheduler, batch -> dao.getHBaseTable().put(batch));
+        this.deletes = new MicroBatcher<>(maxBatchSize, maxDelay, unit, scheduler, batch -> dao.getHBaseTable().delete(batch));
+    }
+
+    /**
+     * Get a row by its row key, with a batch of gets
+     *
+     * @param rowKey Row key
+     * @return HBase row, deserialized as object of your bean-like class (that implements {@link HBRecord})
+     * @throws IllegalStateException If this batcher is closed
+     */
+    public CompletableFuture<T> get(@Nonnull final R rowKey) {
+        return gets.submit(dao.getGet(rowKey))
+                .thenApply(dao.mapResultToRecordType());
+    }
+
+    /**
+     * Persist your bean-like object (of a class that implements {@link HBRecord}), with a batch of puts
+     *
+     * @param record Object that needs to be persisted
+     * @return Row key of the persisted object
+     * @throws IllegalStateException If this batcher is closed
+     */
+    public CompletableFuture<R> persist(@Nonnull final T record) {
+        final Put put = dao.hbObjectMapper.writeValueAsPut0(record);
+        return puts.submit(put)
+                .whenComplete((nothing, error) -> dao.onWritten(put.getRow()))
+                .thenApply(nothing -> record.composeRowKey());
+    }
+
+    /**
+     * Delete a row by its row key, with a batch of deletes
+     *
+     * @param rowKey Row key to delete
+     * @return nothing or an error if the operation has failed
+     * @throws IllegalStateException If this batcher is closed
+     */
+    public CompletableFuture<Void> delete(@Nonnull final R rowKey) {
+        final Delete delete = new Delete(dao.toBytes(rowKey));
+        return deletes.submit(delete)
+                .thenRun(() -> dao.onDeleted(delete.getRow()));
+    }
+
+    /**
+     * Delete a row by object (of class that implements {@link HBRecord}), with a batch of deletes
+     *
+     * @param record Object to delete
+     * @return nothing or an error if the operation has failed
+     * @throws IllegalStateException If this batcher is closed
+     */
+    public CompletableFuture<Void> delete(@Nonnull final T record) {
+        return delete(record.composeRowKey());
+    }
+
+    /**
+     * Send all operations accumulated so far to HBase, without waiting for their batches to fill up
+     */
+    public void flush() {
+        gets.flush();
+        puts.flush();
+        deletes.flush();
+    }
+
+    /**
+     * Send all operations accumulated so far to HBase and reject further operations
+     * <br><br>
+     * (this doesn't wait for the operations to complete and doesn't shut down the scheduler this batcher was created with)
+     */
+    @Override
+    public void close() {
+        gets.close();
+        puts.close();
+        deletes.close();
+    }
+
+    /**
+     * Sends one get per distinct row of a batch, and fans results back out to gets of the batch
+     */
+    private List<CompletableFuture<Result>> dispatchGets(List<Get> batch) {
+        final Map<ByteBuffer, Integer> distinctIndexes = new HashMap<>(batch.size());
+        final List<Get> distinctGets = new ArrayList<>(batch.size());
+        final int[] indexes = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            final Get get = batch.get(i);
+            Integer index = distinctIndexes.putIfAbsent(ByteBuffer.wrap(get.getRow()), distinctGets.size());
+            if (index == null) {
+                index = distinctGets.size();
+                distinctGets.add(get);
+            }
+            indexes[i] = index;
+        }
+        final List<CompletableFuture<Result>> distinctResults = dao.fetch(distinctGets);
+        final List<CompletableFuture<Result>> results = new ArrayList<>(batch.size());
+        for (int index : indexes) {
+            results.add(distinctResults.get(index));
+        }
+        return results;
+    }
+}
@@ -15,9 +15,11 @@ import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
-import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
@@ -28,12 +30,18 @@ import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -49,6 +57,41 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
 
     protected final AsyncConnection connection;
 
+    private final NegativeLookupCache negativeLookupCache;
+
+    private final InFlightGets<T> inFlightGets;
+
+    /**
+     * Constructs a data access object using your custom {@link HBObjectMapper}, with optional read-path features (e.g. a cache of row keys known to be absent)
+     *
+     * @param connection     HBase Connection
+     * @param hbObjectMapper Your custom {@link HBObjectMapper}
+     * @param options        Optional features of this DAO (see {@link DAOOptions.Builder} for what each of them does)
+     * @throws IllegalStateException    Annotation(s) on base entity may be incorrect
+     * @throws IllegalArgumentException If options have a record cache (which this DAO doesn't support)
+     */
+    protected ReactiveHBDAO(@Nonnull final AsyncConnection connection, @Nonnull final HBObjectMapper hbObjectMapper, @Nonnull final DAOOptions<R, T> options) {
+        super(hbObjectMapper);
+        if (options.getRecordCache() != null) {
+            throw new IllegalArgumentException("Reactive DAOs don't support record caches");
+        }
+        this.connection = connection;
+        this.negativeLookupCache = options.getNegativeLookupCache();
+        this.inFlightGets = options.isCoalesceGets() ? new InFlightGets<>() : null;
+    }
+
+    /**
+     * Constructs a data access object with optional read-path features (see {@link #ReactiveHBDAO(AsyncConnection, HBObjectMapper, DAOOptions)})
+     *
+     * @param connection HBase Connection
+     * @param options    Optional features of this DAO
+     * @throws IllegalStateException    Annotation(s) on base entity may be incorrect
+     * @throws IllegalArgumentException If options have a record cache (which this DAO doesn't support)
+     */
+    protected ReactiveHBDAO(@Nonnull final AsyncConnection connection, @Nonnull final DAOOptions<R, T> options) {
+        this(connection, HBObjectMapperFactory.construct(), options);
+    }
+
     /**
      * Constructs a data access object using your custom {@link HBObjectMapper}.
      * <p>
@@ -60,8 +103,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IllegalStateException Annotation(s) on base entity may be incorrect
      */
     protected ReactiveHBDAO(@Nonnull final AsyncConnection connection, @Nonnull final HBObjectMapper hbObjectMapper) {
-        super(hbObjectMapper);
-        this.connection = connection;
+        this(connection, hbObjectMapper, DAOOptions.<R, T>builder().build());
     }
 
     /**
@@ -136,8 +178,10 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
     public CompletableFuture<T> get(@Nonnull final R rowKey, final int numVersionsToFetch) {
 
         final Get get = getGet(rowKey, numVersionsToFetch);
-        return getHBaseTable()
-                .get(get)
+        if (inFlightGets != null) {
+            return inFlightGets.getAsync(get.getRow(), numVersionsToFetch, null, () -> fetch(get).thenApply(mapResultToRecordType()));
+        }
+        return fetch(get)
                 .thenApply(mapResultToRecordType());
     }
 
@@ -151,6 +195,26 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
         return get(rowKey, 1);
     }
 
+    /**
+     * Get a row from HBase table by it's row key, fetching only columns of given fields
+     * <br><br>
+     * Other fields of the returned object are left unset. Use this to avoid fetching (and deserializing) columns you don't need, e.g. on wide rows.
+     *
+     * @param rowKey     Row key
+     * @param fieldNames Names of fields to fetch (private variables of your bean-like class)
+     * @return HBase row, deserialized as object of your bean-like class (that implements {@link HBRecord}), or <code>null</code> if the row has none of the given fields
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public CompletableFuture<T> get(@Nonnull final R rowKey, @Nonnull final Set<String> fieldNames) {
+        final Get get = addColumns(getGet(rowKey), fieldNames);
+        if (inFlightGets != null) {
+            return inFlightGets.getAsync(get.getRow(), 1, fieldNames, () -> getHBaseTable().get(get).thenApply(mapResultToRecordType()));
+        }
+        return getHBaseTable()
+                .get(get)
+                .thenApply(mapResultToRecordType());
+    }
+
     /**
      * Fetch an HBase row for a given {@link Get} object
      *
@@ -191,7 +255,9 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
             gets.add(getGet(rowKey, numVersionsToFetch));
         }
 
-        return getOnGets(gets);
+        return fetch(gets)
+                .stream()
+                .map(resultCompletableFuture -> resultCompletableFuture.thenApply(mapResultToRecordType()));
     }
 
     /**
@@ -234,8 +300,8 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public CompletableFuture<List<T>> get(@Nonnull final R startRowKey, final boolean startRowInclusive, @Nonnull final R endRowKey, final boolean endRowInclusive, final int numVersionsToFetch) {
         final Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey), startRowInclusive)
-                .withStopRow(toBytes(endRowKey), endRowInclusive)
+                .withStartRow(toUnsaltedBytes(startRowKey), startRowInclusive)
+                .withStopRow(toUnsaltedBytes(endRowKey), endRowInclusive)
                 .readVersions(numVersionsToFetch);
         return get(scan);
     }
@@ -243,18 +309,32 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
     /**
      * Get records from HBase table for a given {@link Scan} object.
      * <br><br>
-     * <b>Caution:</b> If you expect large number or rows for given scan criteria, do <u>not</u> use this method. Use the iterable variant {@link #records(Scan)} instead.
+     * <b>Caution:</b> If you expect large number or rows for given scan criteria, do <u>not</u> use this method. Use the streaming variant {@link #stream(Scan)} or the iterable variant {@link #records(Scan)} instead.
+     *
+     * For a salted table (see {@link HBTable#saltBuckets()}), start/stop rows of the scan must be unsalted (see {@link #toUnsaltedBytes(Serializable)}): the scan is run on all buckets concurrently and records are merged back in order of row keys.
      *
      * @param scan HBase's scan object
      * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class
      */
     public CompletableFuture<List<T>> get(@Nonnull final Scan scan) {
-
-        return getHBaseTable()
-                .scanAll(scan)
+        return scanAll(scan)
                 .thenApply(results -> results.stream().map(mapResultToRecordType()).collect(Collectors.toList()));
     }
 
+    /**
+     * Get records from HBase table for a given {@link Scan} object, fetching only columns of given fields (see {@link #get(Serializable, Set) get(R, Set)})
+     * <br><br>
+     * <b>Caution:</b> If you expect large number or rows for given scan criteria, do <u>not</u> use this method. Use the streaming variant {@link #stream(Scan, Set)} instead.
+     *
+     * @param scan       HBase's scan object (columns of given fields are added to it)
+     * @param fieldNames Names of fields to fetch
+     * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class (rows that have none of the given fields are skipped)
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public CompletableFuture<List<T>> get(@Nonnull final Scan scan, @Nonnull final Set<String> fieldNames) {
+        return get(addColumns(scan, fieldNames));
+    }
+
     /**
      * Get specified number of versions of rows by a range of row keys (start to end)
      *
@@ -271,7 +351,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      * <br><br>
      * <b>Caution:</b> If you expect large number or rows for given row key prefix, do <u>not</u> use this method. Use the iterable variant {@link #recordsByPrefix(byte[], int)} instead.
      *
-     * @param rowPrefix          Prefix to scan for
+     * @param rowPrefix          Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @param numVersionsToFetch Number of versions to be retrieved
      * @return Records corresponding to provided prefix, deserialized as list of objects of your bean-like class
      */
@@ -287,7 +367,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      * <br><br>
      * <b>Caution:</b> If you expect large number or rows for given row key prefix, do <u>not</u> use this method. Use the iterable variant {@link #recordsByPrefix(byte[])} instead.
      *
-     * @param rowPrefix Prefix to scan for
+     * @param rowPrefix Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @return Records corresponding to {@link Scan} object passed, deserialized as objects of your bean-like class
      */
     public CompletableFuture<List<T>> getByPrefix(@Nonnull final byte[] rowPrefix) {
@@ -296,18 +376,91 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
 
     /**
      * Get an iterable to iterate over records matching given {@link Scan} object
+     * <br><br>
+     * For a salted table (see {@link HBTable#saltBuckets()}), start/stop rows of the scan must be unsalted, as with {@link #get(Scan)}.
      *
      * @param scan HBase's scan object
      * @return An iterable to iterate over records matching the scan criteria
      */
     public Records<T> records(@Nonnull final Scan scan) {
-        return new ReactiveRecords<>(getHBaseTable().getScanner(scan), hbObjectMapper, hbRecordClass);
+        final AsyncTable<AdvancedScanResultConsumer> table = getHBaseTable();
+        try {
+            return new ReactiveRecords<>(hbTable.getScanner(scan, table::getScanner), hbObjectMapper, hbRecordClass);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get an iterable to iterate over records matching given {@link Scan} object, fetching only columns of given fields (see {@link #get(Serializable, Set) get(R, Set)})
+     *
+     * @param scan       HBase's scan object (columns of given fields are added to it)
+     * @param fieldNames Names of fields to fetch
+     * @return An iterable to iterate over records matching the scan criteria (rows that have none of the given fields are skipped)
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public Records<T> records(@Nonnull final Scan scan, @Nonnull final Set<String> fieldNames) {
+        return records(addColumns(scan, fieldNames));
+    }
+
+    /**
+     * Stream records matching given {@link Scan} object, as they're fetched from HBase
+     * <br><br>
+     * Unlike {@link #get(Scan)}, this doesn't hold all matching records in memory and unlike {@link #records(Scan)}, this doesn't block any thread: rows are fetched asynchronously and fetching is suspended while the subscriber hasn't requested rows already fetched.
+     * Every subscription to the returned publisher runs the scan afresh.
+     *
+     * <b>Note:</b> This isn't supported for salted tables (see {@link HBTable#saltBuckets()}). Use {@link #records(Scan)} or {@link #get(Scan)} for them.
+     *
+     * @param scan HBase's scan object
+     * @return A publisher of records matching the scan criteria, deserialized as objects of your bean-like class
+     * @throws UnsupportedOperationException If the table is salted
+     */
+    public Publisher<T> stream(@Nonnull final Scan scan) {
+        checkNotSalted();
+        return new ScanPublisher<>(getHBaseTable(), scan, mapResultToRecordType());
+    }
+
+    /**
+     * Stream records matching given {@link Scan} object, fetching only columns of given fields (see {@link #stream(Scan)} and {@link #get(Serializable, Set) get(R, Set)})
+     *
+     * @param scan       HBase's scan object (columns of given fields are added to it)
+     * @param fieldNames Names of fields to fetch
+     * @return A publisher of records matching the scan criteria (rows that have none of the given fields are skipped)
+     * @throws IllegalArgumentException If no field names are given or a field name isn't recognized
+     */
+    public Publisher<T> stream(@Nonnull final Scan scan, @Nonnull final Set<String> fieldNames) {
+        return stream(addColumns(scan, fieldNames));
+    }
+
+    /**
+     * Stream records of a (possibly huge) sequence of row keys, fetched by batches of gets with a bounded number of batches in flight (this is a streaming variant of {@link #get(Serializable[]) get(R[])} method)
+     * <br><br>
+     * Row keys are drawn <code>batchSize</code> at a time and every batch is fetched through {@link AsyncTable#get(List)}, with up to <code>maxBatchesInFlight</code> batches fetched (or held) ahead of the subscriber's demand.
+     * So, memory use stays proportional to <code>batchSize</code> &times; <code>maxBatchesInFlight</code>, not to number of row keys, and row keys aren't drawn while the subscriber hasn't requested records already fetched.
+     * Records are published in order of row keys passed, skipping rows that don't exist.
+     * <br><br>
+     * <b>Note:</b> The returned publisher can be subscribed to only once (it consumes the iterator). To fetch records of a {@link Stream} of row keys, pass its {@link Stream#iterator() iterator}.
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param batchSize          Number of row keys per batch of gets
+     * @param maxBatchesInFlight Maximum number of batches fetched (or held) ahead of the subscriber's demand
+     * @return A publisher of records of row keys passed
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    public Publisher<T> stream(@Nonnull final Iterator<R> rowKeys, final int batchSize, final int maxBatchesInFlight) {
+        return new BoundedBatchPublisher<>(rowKeys, batchSize, maxBatchesInFlight,
+                batch -> allOf(get(batch.toArray((R[]) Array.newInstance(rowKeyClass, batch.size()))))
+                        .thenApply(records -> {
+                            records.removeIf(Objects::isNull);
+                            return records;
+                        }));
     }
 
     /**
      * Get an iterable to iterate over records matching given row key prefix
      *
-     * @param rowPrefix Prefix to scan for
+     * @param rowPrefix Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @return An iterable to iterate over records matching the scan criteria
      */
     public Records<T> recordsByPrefix(@Nonnull final byte[] rowPrefix) {
@@ -317,7 +470,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
     /**
      * Get an iterable to iterate over records matching given row key prefix and fetch specific number of versions
      *
-     * @param rowPrefix          Prefix to scan for
+     * @param rowPrefix          Prefix to scan for (unsalted, for a salted table: see {@link #toUnsaltedBytes(Serializable)})
      * @param numVersionsToFetch Number of versions to be retrieved
      * @return An iterable over objects of your bean-like class
      */
@@ -337,8 +490,8 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Iterable<T> records(@Nonnull final R startRowKey, @Nonnull final R endRowKey) {
         Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey))
-                .withStopRow(toBytes(endRowKey));
+                .withStartRow(toUnsaltedBytes(startRowKey))
+                .withStopRow(toUnsaltedBytes(endRowKey));
         return records(scan);
     }
 
@@ -358,8 +511,8 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Records<T> records(@Nonnull final R startRowKey, final boolean startRowInclusive, @Nonnull final R endRowKey, final boolean endRowInclusive, final int numVersionsToFetch, final int numRowsForCaching) {
         final Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey), startRowInclusive)
-                .withStopRow(toBytes(endRowKey), endRowInclusive)
+                .withStartRow(toUnsaltedBytes(startRowKey), startRowInclusive)
+                .withStopRow(toUnsaltedBytes(endRowKey), endRowInclusive)
                 .readVersions(numVersionsToFetch)
                 .setCaching(numRowsForCaching);
         return records(scan);
@@ -375,8 +528,8 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public Records<T> records(@Nonnull final R startRowKey, @Nonnull final R endRowKey, final int numVersionsToFetch) {
         final Scan scan = new Scan()
-                .withStartRow(toBytes(startRowKey))
-                .withStopRow(toBytes(endRowKey))
+                .withStartRow(toUnsaltedBytes(startRowKey))
+                .withStopRow(toUnsaltedBytes(endRowKey))
                 .readVersions(numVersionsToFetch);
         return records(scan);
     }
@@ -392,8 +545,10 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
     public CompletableFuture<Long> increment(@Nonnull final R rowKey, @Nonnull final String fieldName, final long amount) {
         final WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
 
+        final byte[] row = toBytes(rowKey);
         return getHBaseTable()
-                .incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount);
+                .incrementColumnValue(row, hbColumn.familyBytes(), hbColumn.columnBytes(), amount)
+                .whenComplete((value, error) -> onWritten(row));
     }
 
     /**
@@ -407,8 +562,10 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public CompletableFuture<Long> increment(@Nonnull final R rowKey, @Nonnull final String fieldName, final long amount, @Nonnull final Durability durability) {
         final WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
+        final byte[] row = toBytes(rowKey);
         return getHBaseTable()
-                .incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability);
+                .incrementColumnValue(row, hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability)
+                .whenComplete((value, error) -> onWritten(row));
     }
 
     /**
@@ -426,6 +583,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
 
         return getHBaseTable()
                 .increment(increment)
+                .whenComplete((result, error) -> onWritten(increment.getRow()))
                 .thenApply(mapResultToRecordType());
     }
 
@@ -490,6 +648,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
 
         return getHBaseTable()
                 .append(append)
+                .whenComplete((result, error) -> onWritten(append.getRow()))
                 .thenApply(mapResultToRecordType());
     }
 
@@ -504,6 +663,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
         final Put put = hbObjectMapper.writeValueAsPut0(record);
         return getHBaseTable()
                 .put(put)
+                .whenComplete((nothing, error) -> onWritten(put.getRow()))
                 .thenApply(nothing -> record.composeRowKey());
     }
 
@@ -525,7 +685,27 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
                 .put(puts);
         return IntStream
                 .range(0, putResults.size())
-                .mapToObj(index -> putResults.get(index).thenApply(nothing -> rowKeys.get(index)));
+                .mapToObj(index -> putResults.get(index)
+                        .whenComplete((nothing, error) -> onWritten(puts.get(index).getRow()))
+                        .thenApply(nothing -> rowKeys.get(index)));
+    }
+
+    /**
+     * Persist a (possibly huge) sequence of your bean-like objects (of a class that implements {@link HBRecord}) to HBase table, by batches of puts with a bounded number of batches in flight (this is a streaming variant of {@link #persist(List)} method)
+     * <br><br>
+     * Records are drawn <code>batchSize</code> at a time and every batch is persisted through {@link AsyncTable#put(List)}, with up to <code>maxBatchesInFlight</code> batches persisted concurrently and only while the subscriber has outstanding demand.
+     * So, memory use stays proportional to <code>batchSize</code> &times; <code>maxBatchesInFlight</code>, not to number of records. Nothing is persisted until the returned publisher is subscribed to.
+     * <br><br>
+     * <b>Note:</b> The returned publisher can be subscribed to only once (it consumes the iterator). If a batch fails, the error is published and no further batches are persisted (records of batches in flight may or may not get persisted).
+     *
+     * @param records            Objects that need to be persisted
+     * @param batchSize          Number of records per batch of puts
+     * @param maxBatchesInFlight Maximum number of batches persisted (or held) ahead of the subscriber's demand
+     * @return A publisher of row keys of persisted objects, in order of objects passed
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    public Publisher<R> persist(@Nonnull final Iterator<T> records, final int batchSize, final int maxBatchesInFlight) {
+        return new BoundedBatchPublisher<>(records, batchSize, maxBatchesInFlight, batch -> allOf(persist(batch)));
     }
 
     /**
@@ -537,7 +717,8 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
     public CompletableFuture<Void> delete(@Nonnull final R rowKey) {
         final Delete delete = new Delete(toBytes(rowKey));
 
-        return getHBaseTable().delete(delete);
+        return getHBaseTable().delete(delete)
+                .thenRun(() -> onDeleted(delete.getRow()));
     }
 
     /**
@@ -562,8 +743,7 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
             deletes.add(new Delete(toBytes(rowKey)));
         }
 
-        return getHBaseTable().delete(deletes)
-                .stream();
+        return onDeleted(deletes, getHBaseTable().delete(deletes));
     }
 
     /**
@@ -578,8 +758,40 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
             deletes.add(new Delete(toBytes(record.composeRowKey())));
         }
 
-        return getHBaseTable().delete(deletes)
-                .stream();
+        return onDeleted(deletes, getHBaseTable().delete(deletes));
+    }
+
+    /**
+     * Delete HBase rows for a (possibly huge) sequence of row keys, by batches of deletes with a bounded number of batches in flight (this is a streaming variant of {@link #delete(Serializable[]) delete(R[])} method)
+     * <br><br>
+     * See {@link #persist(Iterator, int, int)} for how batches are drawn and bounded.
+     *
+     * @param rowKeys            Row keys to delete
+     * @param batchSize          Number of row keys per batch of deletes
+     * @param maxBatchesInFlight Maximum number of batches deleted (or held) ahead of the subscriber's demand
+     * @return A publisher of deleted row keys, in order of row keys passed
+     * @throws IllegalArgumentException If batch size or maximum number of batches in flight is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    public Publisher<R> delete(@Nonnull final Iterator<R> rowKeys, final int batchSize, final int maxBatchesInFlight) {
+        return new BoundedBatchPublisher<>(rowKeys, batchSize, maxBatchesInFlight,
+                batch -> allOf(delete(batch.toArray((R[]) Array.newInstance(rowKeyClass, batch.size()))))
+                        .thenApply(nothing -> batch));
+    }
+
+    /**
+     * Combines outcomes of a bulk operation into one future, which fails if any of them fails
+     */
+    private static <V> CompletableFuture<List<V>> allOf(final Stream<CompletableFuture<V>> outcomes) {
+        final List<CompletableFuture<V>> futures = outcomes.collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(nothing -> {
+                    final List<V> values = new ArrayList<>(futures.size());
+                    for (CompletableFuture<V> future : futures) {
+                        values.add(future.join());
+                    }
+                    return values;
+                });
     }
 
     /**
@@ -653,18 +865,71 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      * @return Map of row key and column values (versioned)
      */
     public CompletableFuture<NavigableMap<R, NavigableMap<Long, Object>>> fetchFieldValues(@Nonnull final R startRowKey, @Nonnull final R endRowKey, @Nonnull final String fieldName, int numVersionsToFetch) {
+        if (hbTable.getSalt() != null) {
+            final Field field = getField(fieldName);
+            final WrappedHBColumn hbColumn = new WrappedHBColumn(field);
+            final Scan scan = new Scan().withStartRow(toUnsaltedBytes(startRowKey)).withStopRow(toUnsaltedBytes(endRowKey));
+            scan.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
+            scan.readVersions(numVersionsToFetch);
+            return scanAll(scan).thenApply(results -> {
+                final NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
+                for (Result result : results) {
+                    populateFieldValuesToMap(field, result, map);
+                }
+                return map;
+            });
+        }
+        final CompletableFuture<NavigableMap<R, NavigableMap<Long, Object>>> future = new CompletableFuture<>();
+        streamFieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch).subscribe(new Subscriber<Map.Entry<R, NavigableMap<Long, Object>>>() {
+            private final NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Map.Entry<R, NavigableMap<Long, Object>> entry) {
+                map.put(entry.getKey(), entry.getValue());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(map);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Stream specified number of versions of values of an HBase column for a range of row keys (start and end) and field name, as they're fetched from HBase
+     * <br><br>
+     * This is the streaming variant of {@link #fetchFieldValues(Serializable, Serializable, String, int) fetchFieldValues(R, R, String, int)}: values are emitted row by row (in order of row keys) and fetching is suspended while the subscriber hasn't requested rows already fetched.
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions to be retrieved
+     * @return A publisher of pairs of row key and column values (versioned)
+     * @throws UnsupportedOperationException If the table is salted (see {@link HBTable#saltBuckets()})
+     */
+    public Publisher<Map.Entry<R, NavigableMap<Long, Object>>> streamFieldValues(@Nonnull final R startRowKey, @Nonnull final R endRowKey, @Nonnull final String fieldName, int numVersionsToFetch) {
+        checkNotSalted();
         final Field field = getField(fieldName);
         final WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-        final Scan scan = new Scan().withStartRow(toBytes(startRowKey)).withStopRow(toBytes(endRowKey));
+        final Scan scan = new Scan().withStartRow(toUnsaltedBytes(startRowKey)).withStopRow(toUnsaltedBytes(endRowKey));
         scan.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
         scan.readVersions(numVersionsToFetch);
-        final NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
-
-        final ResultScanner resultScanner = getHBaseTable().getScanner(scan);
-        for (final Result result : resultScanner) {
+        return new ScanPublisher<>(getHBaseTable(), scan, result -> {
+            final NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
             populateFieldValuesToMap(field, result, map);
-        }
-        return CompletableFuture.completedFuture(map);
+            return map.firstEntry();
+        });
     }
 
     /**
@@ -711,9 +976,22 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
      * @return <code>true</code> if row with given row key exists
      */
     public CompletableFuture<Boolean> exists(@Nonnull final R rowKey) {
-
+        final Get get = new Get(toBytes(rowKey));
+        if (negativeLookupCache == null) {
+            return getHBaseTable()
+                    .exists(get);
+        }
+        if (negativeLookupCache.isKnownAbsent(get.getRow())) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final long writeSequence = negativeLookupCache.writeSequence(get.getRow());
         return getHBaseTable()
-                .exists(new Get(toBytes(rowKey)));
+                .exists(get)
+                .whenComplete((exists, error) -> {
+                    if (error == null) {
+                        negativeLookupCache.onFetched(get.getRow(), exists, writeSequence);
+                    }
+                });
     }
 
     /**
@@ -729,9 +1007,36 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
                     toBytes(rowKey)
             ));
         }
-        return getHBaseTable()
-                .exists(gets)
-                .stream();
+        if (negativeLookupCache == null) {
+            return getHBaseTable()
+                    .exists(gets)
+                    .stream();
+        }
+        final List<CompletableFuture<Boolean>> exists = new ArrayList<>(gets.size());
+        final List<Get> unknownGets = new ArrayList<>();
+        final long[] writeSequences = new long[gets.size()];
+        for (int i = 0; i < gets.size(); i++) {
+            final Get get = gets.get(i);
+            final boolean knownAbsent = negativeLookupCache.isKnownAbsent(get.getRow());
+            exists.add(knownAbsent ? CompletableFuture.completedFuture(false) : null);
+            if (!knownAbsent) {
+                unknownGets.add(get);
+                writeSequences[i] = negativeLookupCache.writeSequence(get.getRow());
+            }
+        }
+        final Iterator<CompletableFuture<Boolean>> unknownExists = getHBaseTable().exists(unknownGets).iterator();
+        for (int i = 0; i < exists.size(); i++) {
+            if (exists.get(i) == null) {
+                final byte[] row = gets.get(i).getRow();
+                final long writeSequence = writeSequences[i];
+                exists.set(i, unknownExists.next().whenComplete((rowExists, error) -> {
+                    if (error == null) {
+                        negativeLookupCache.onFetched(row, rowExists, writeSequence);
+                    }
+                }));
+            }
+        }
+        return exists.stream();
     }
 
     /**
@@ -743,6 +1048,138 @@ public abstract class ReactiveHBDAO<R extends Serializable & Comparable<R>, T ex
         return connection.getTable(hbTable.getName());
     }
 
+    /**
+     * Creates a batcher for this DAO's table, that accumulates single-row gets, puts and deletes and sends them to HBase in batches (see {@link ReactiveBatcher})
+     * <br><br>
+     * Use this when many concurrent callers read or write one row each: it trades a little latency (up to <code>maxDelay</code>) for far fewer calls to HBase.
+     *
+     * @param maxBatchSize Maximum number of operations (of a kind) in a batch: a batch is sent as soon as it has these many operations
+     * @param maxDelay     Maximum time an operation may wait for its batch to fill up, before the batch is sent anyway
+     * @param unit         Unit of <code>maxDelay</code> (e.g. {@link TimeUnit#MICROSECONDS})
+     * @param scheduler    Scheduler on which batches that don't fill up in time are sent (this is not shut down by this library)
+     * @return A batcher, which must be closed after use
+     * @throws IllegalArgumentException If batch size isn't positive or delay is negative
+     */
+    public ReactiveBatcher<R, T> newBatcher(final int maxBatchSize, final long maxDelay, @Nonnull final TimeUnit unit, @Nonnull final ScheduledExecutorService scheduler) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("Delay can't be negative");
+        }
+        return new ReactiveBatcher<>(this, maxBatchSize, maxDelay, unit, scheduler);
+    }
+
+    /**
+     * Runs a scan (on all buckets concurrently, if the table is salted) and collects its results
+     */
+    private CompletableFuture<List<Result>> scanAll(final Scan scan) {
+        final RowKeySalt salt = hbTable.getSalt();
+        if (salt == null) {
+            return getHBaseTable().scanAll(scan);
+        }
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>(salt.getBuckets());
+        try {
+            for (Scan bucketScan : salt.fanOut(scan)) {
+                futures.add(getHBaseTable().scanAll(bucketScan));
+            }
+        } catch (IOException e) {
+            final CompletableFuture<List<Result>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(nothing -> salt.merge(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()), scan.isReversed(), scan.getLimit()));
+    }
+
+    private void checkNotSalted() {
+        if (hbTable.getSalt() != null) {
+            throw new UnsupportedOperationException(String.format("Streaming scans of salted table %s isn't supported (use records(Scan) or get(Scan))", hbTable));
+        }
+    }
+
+    /**
+     * Fetches a row (of whole column families), skipping the round trip to HBase if the row is known to be absent
+     */
+    private CompletableFuture<Result> fetch(final Get get) {
+        if (negativeLookupCache == null) {
+            return getHBaseTable().get(get);
+        }
+        if (negativeLookupCache.isKnownAbsent(get.getRow())) {
+            return CompletableFuture.completedFuture(Result.EMPTY_RESULT);
+        }
+        final long writeSequence = negativeLookupCache.writeSequence(get.getRow());
+        return getHBaseTable()
+                .get(get)
+                .whenComplete(recordFetched(get, writeSequence));
+    }
+
+    /**
+     * Fetches rows (of whole column families), skipping round trips to HBase for rows known to be absent
+     */
+    List<CompletableFuture<Result>> fetch(final List<Get> gets) {
+        if (negativeLookupCache == null) {
+            return getHBaseTable().get(gets);
+        }
+        final List<CompletableFuture<Result>> results = new ArrayList<>(gets.size());
+        final List<Get> unknownGets = new ArrayList<>();
+        final long[] writeSequences = new long[gets.size()];
+        for (int i = 0; i < gets.size(); i++) {
+            final Get get = gets.get(i);
+            final boolean knownAbsent = negativeLookupCache.isKnownAbsent(get.getRow());
+            results.add(knownAbsent ? CompletableFuture.completedFuture(Result.EMPTY_RESULT) : null);
+            if (!knownAbsent) {
+                unknownGets.add(get);
+                writeSequences[i] = negativeLookupCache.writeSequence(get.getRow());
+            }
+        }
+        final Iterator<CompletableFuture<Result>> unknownResults = getHBaseTable().get(unknownGets).iterator();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, unknownResults.next().whenComplete(recordFetched(gets.get(i), writeSequences[i])));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param writeSequence Write sequence of the row, as captured before the get was sent
+     */
+    private BiConsumer<Result, Throwable> recordFetched(final Get get, final long writeSequence) {
+        return (result, error) -> {
+            if (error == null) {
+                negativeLookupCache.onFetched(get.getRow(), !result.isEmpty(), writeSequence);
+            }
+        };
+    }
+
+    void onWritten(final byte[] row) {
+        if (negativeLookupCache != null) {
+            negativeLookupCache.onWritten(row);
+        }
+        if (inFlightGets != null) {
+            inFlightGets.forget(row);
+        }
+    }
+
+    private Stream<CompletableFuture<Void>> onDeleted(final List<Delete> deletes, final List<CompletableFuture<Void>> deleteResults) {
+        if (negativeLookupCache == null && inFlightGets == null) {
+            return deleteResults.stream();
+        }
+        return IntStream
+                .range(0, deleteResults.size())
+                .mapToObj(index -> deleteResults.get(index).thenRun(() -> onDeleted(deletes.get(index).getRow())));
+    }
+
+    void onDeleted(final byte[] row) {
+        if (negativeLookupCache != null) {
+            negativeLookupCache.onDeleted(row);
+        }
+        if (inFlightGets != null) {
+            inFlightGets.forget(row);
+        }
+    }
+
     private Get getGet(final R rowKey, final int numVersionsToFetch) {
         try {
             return new Get(toBytes(rowKey)).readVersions(numVersionsToFetch);
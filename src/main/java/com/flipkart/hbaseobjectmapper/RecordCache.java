@@ -0,0 +1,37 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+
+/**
+ * A cache of records by row key, which {@link AbstractHBDAO} reads through (see {@link DAOOptions.Builder#recordCache(RecordCache)})
+ * <br><br>
+ * {@link AbstractHBDAO} looks records up in this cache on single-version gets by row key (e.g. {@link AbstractHBDAO#get(Serializable) get(R)} and {@link AbstractHBDAO#get(java.util.List) get(List)}), puts records it fetches from HBase into it and invalidates row keys it writes to (through its own persist, delete, increment and append methods, and through {@link BufferedPersister}s it creates).
+ * <br><br>
+ * You may implement this on top of any in-process cache. {@link GuavaRecordCache} is one such implementation.
+ * <br><br>
+ * Implementations must be thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public interface RecordCache<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+
+    /**
+     * @param rowKey Row key
+     * @return Cached record for the row key, or <code>null</code> if there's none
+     */
+    T getIfPresent(R rowKey);
+
+    /**
+     * @param rowKey Row key
+     * @param record Record (never <code>null</code>)
+     */
+    void put(R rowKey, T record);
+
+    /**
+     * Discard cached record for a row key, if any
+     *
+     * @param rowKey Row key
+     */
+    void invalidate(R rowKey);
+}
@@ -1,7 +1,11 @@
 package com.flipkart.hbaseobjectmapper;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class is the return type of all 'records' methods of {@link AbstractHBDAO} &amp; {@link ReactiveHBDAO} classes, which enable you to iterate over large number of records
@@ -15,4 +19,31 @@ import java.io.Serializable;
  */
 @SuppressWarnings("rawtypes")
 public interface Records<T extends HBRecord> extends Closeable, Iterable<T> {
+
+    /**
+     * Get a sequential stream of these records. Closing the stream closes these records (so, use the stream in a try-with-resources statement).
+     * <br><br>
+     * Records can be consumed only once: either through {@link #iterator()} or through a stream.
+     *
+     * @return Stream of records, in order of row keys (unless stated otherwise by the method that returned these records)
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Get a parallel stream of these records (see {@link #stream()}). How well this parallelizes depends on the {@link #spliterator()} of the implementation (e.g. {@link SyncRecords} splits by row key ranges).
+     *
+     * @return Parallel stream of records
+     */
+    default Stream<T> parallelStream() {
+        return stream().parallel();
+    }
 }
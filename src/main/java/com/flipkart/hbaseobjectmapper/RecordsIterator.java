@@ -15,7 +15,9 @@ class RecordsIterator<T extends HBRecord> implements Iterator<T> {
     private final Class<T> clazz;
     private final Iterator<Result> resultIterator;
 
+    @SuppressWarnings("unchecked")
     public RecordsIterator(HBObjectMapper hbObjectMapper, Class<T> clazz, Iterator<Result> resultIterator) {
+        hbObjectMapper.validateHBClass(clazz); // once per iterator, not per row
         this.hbObjectMapper = hbObjectMapper;
         this.clazz = clazz;
         this.resultIterator = resultIterator;
@@ -30,7 +32,7 @@ class RecordsIterator<T extends HBRecord> implements Iterator<T> {
     @SuppressWarnings("unchecked")
     public T next() {
         Result result = resultIterator.next();
-        return (T) hbObjectMapper.readValue(result, clazz);
+        return (T) hbObjectMapper.readValueFromResult(result, clazz);
     }
 
 }
@@ -0,0 +1,153 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.codec.ValueCodec;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.ByteArrayHashKey;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.MurmurHash3;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Salting of row keys, for tables with {@link HBTable#saltBuckets()} set (for internal use only)
+ * <p>
+ * A salted row key is the serialized row key (the 'logical' row key), prefixed with a byte that identifies its bucket. The bucket is derived from a hash of the logical row key, so that monotonically increasing row keys (e.g. timestamps) get spread across buckets (and hence across regions), instead of all landing on the last region.
+ * <p>
+ * Rows of a bucket are contiguous and sorted by their logical row keys. So, a scan over a range of logical row keys is run as one scan per bucket, whose results are merged back in order of logical row keys.
+ */
+final class RowKeySalt {
+    private static final int MAX_BUCKETS = 256; // bucket is stored as an unsigned byte
+
+    /**
+     * Opens a scanner for a scan (e.g. through {@link org.apache.hadoop.hbase.client.Table#getScanner(Scan)})
+     */
+    interface ScannerFactory {
+        ResultScanner getScanner(Scan scan) throws IOException;
+    }
+
+    private final int buckets;
+
+    RowKeySalt(int buckets) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException(String.format("Number of salt buckets must be between 1 and %d", MAX_BUCKETS));
+        }
+        this.buckets = buckets;
+    }
+
+    int getBuckets() {
+        return buckets;
+    }
+
+    int bucketOf(byte[] logicalRowKey) {
+        final int hash = MurmurHash3.getInstance().hash(new ByteArrayHashKey(logicalRowKey, 0, logicalRowKey.length), 0);
+        return (hash & Integer.MAX_VALUE) % buckets;
+    }
+
+    byte[] salt(byte[] logicalRowKey) {
+        return Bytes.add(new byte[]{(byte) bucketOf(logicalRowKey)}, logicalRowKey);
+    }
+
+    /**
+     * Wraps a row key codec, so that serialized row keys are salted and salt is skipped while deserializing
+     */
+    ValueCodec wrap(ValueCodec rowKeyCodec) {
+        return new ValueCodec() {
+            @Override
+            public byte[] serialize(Serializable object) throws SerializationException {
+                final byte[] logicalRowKey = rowKeyCodec.serialize(object);
+                return logicalRowKey == null ? null : salt(logicalRowKey);
+            }
+
+            @Override
+            public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+                if (bytes == null)
+                    return null;
+                if (length < 1) {
+                    throw new DeserializationException("Salted row key can't be empty", null);
+                }
+                return rowKeyCodec.deserialize(bytes, offset + 1, length - 1);
+            }
+        };
+    }
+
+    /**
+     * Splits a scan over logical row keys into one scan per bucket
+     *
+     * @param scan Scan, whose start and stop rows (if any) are logical row keys
+     * @return Scans, one per bucket (in order of buckets)
+     */
+    List<Scan> fanOut(Scan scan) throws IOException {
+        final byte[] startRow = scan.getStartRow(), stopRow = scan.getStopRow();
+        final List<Scan> scans = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            final byte[] salt = {(byte) bucket};
+            final byte[] nextSalt = bucket == MAX_BUCKETS - 1 ? new byte[0] : new byte[]{(byte) (bucket + 1)}; // empty, for end of table
+            final Scan bucketScan = new Scan(scan);
+            if (scan.isReversed()) {
+                bucketScan.withStartRow(startRow.length == 0 ? nextSalt : Bytes.add(salt, startRow), startRow.length != 0 && scan.includeStartRow());
+                bucketScan.withStopRow(stopRow.length == 0 ? salt : Bytes.add(salt, stopRow), stopRow.length != 0 && scan.includeStopRow());
+            } else {
+                bucketScan.withStartRow(startRow.length == 0 ? salt : Bytes.add(salt, startRow), startRow.length == 0 || scan.includeStartRow());
+                bucketScan.withStopRow(stopRow.length == 0 ? nextSalt : Bytes.add(salt, stopRow), stopRow.length != 0 && scan.includeStopRow());
+            }
+            bucketScan.setAsyncPrefetch(true); // so that buckets are fetched concurrently, while their rows get merged
+            scans.add(bucketScan);
+        }
+        return scans;
+    }
+
+    /**
+     * Opens a scanner over a range of logical row keys, which runs one scan per bucket and merges their results in order of logical row keys
+     *
+     * @param scan           Scan, whose start and stop rows (if any) are logical row keys
+     * @param scannerFactory Opens scanners for scans of buckets
+     * @return A scanner over results of all buckets
+     */
+    ResultScanner getScanner(Scan scan, ScannerFactory scannerFactory) throws IOException {
+        final List<ResultScanner> scanners = new ArrayList<>(buckets);
+        try {
+            for (Scan bucketScan : fanOut(scan)) {
+                scanners.add(scannerFactory.getScanner(bucketScan));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (ResultScanner scanner : scanners) {
+                scanner.close();
+            }
+            throw e;
+        }
+        return new MergingResultScanner(scanners, resultComparator(scan.isReversed()), scan.getLimit());
+    }
+
+    /**
+     * Merges results of scans of buckets (each of which is sorted by logical row keys), in order of logical row keys
+     *
+     * @param results  Results of scans of buckets
+     * @param reversed Whether the scans were reversed
+     * @param limit    Maximum number of results to return (0 or less, for no limit)
+     * @return Merged results
+     */
+    List<Result> merge(List<List<Result>> results, boolean reversed, int limit) {
+        final List<Result> merged = new ArrayList<>();
+        for (List<Result> bucketResults : results) {
+            merged.addAll(bucketResults);
+        }
+        merged.sort(resultComparator(reversed)); // stable, so partial results of a row stay in order
+        return limit > 0 && merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    private static Comparator<Result> resultComparator(boolean reversed) {
+        final Comparator<Result> comparator = (r1, r2) -> {
+            final byte[] row1 = r1.getRow(), row2 = r2.getRow();
+            return Bytes.compareTo(row1, 1, row1.length - 1, row2, 1, row2.length - 1);
+        };
+        return reversed ? comparator.reversed() : comparator;
+    }
+}
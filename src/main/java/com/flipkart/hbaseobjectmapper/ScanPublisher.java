@@ -0,0 +1,212 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A {@link Publisher} of rows matching a {@link Scan}, mapped as they arrive from HBase (for internal use only)
+ * <p>
+ * Every subscription runs its own scan through {@link AsyncTable#scan(Scan, AdvancedScanResultConsumer)}. The scan starts on the first request of the subscriber and is suspended after every batch of rows, until the subscriber has requested all of them.
+ * So, no more than one batch of rows (see {@link Scan#setCaching(int)} and {@link Scan#setMaxResultSize(long)}) is held in memory per subscription.
+ * <p>
+ * Rows that the mapper maps to <code>null</code> are skipped.
+ *
+ * @param <V> Type of elements rows are mapped to
+ */
+class ScanPublisher<V> implements Publisher<V> {
+    private final AsyncTable<AdvancedScanResultConsumer> table;
+    private final Scan scan;
+    private final Function<Result, V> mapper;
+
+    ScanPublisher(AsyncTable<AdvancedScanResultConsumer> table, Scan scan, Function<Result, V> mapper) {
+        this.table = table;
+        this.scan = scan;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super V> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber can't be null");
+        }
+        subscriber.onSubscribe(new ScanSubscription(subscriber));
+    }
+
+    /**
+     * Bridges a scan to a subscriber: HBase pushes rows into a queue, from which they're drained to the subscriber as per its demand (signals to the subscriber are serialized by {@link #wip})
+     */
+    private class ScanSubscription implements Subscription, AdvancedScanResultConsumer {
+        private final Subscriber<? super V> subscriber;
+        private final Queue<V> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicReference<ScanResumer> resumer = new AtomicReference<>();
+        private volatile boolean done = false, cancelled = false;
+        private volatile Throwable error;
+
+        ScanSubscription(Subscriber<? super V> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Number of elements requested must be positive, but was " + n));
+                return;
+            }
+            long current, updated;
+            do {
+                current = requested.get();
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (current != Long.MAX_VALUE && !requested.compareAndSet(current, updated));
+            if (started.compareAndSet(false, true)) {
+                try {
+                    table.scan(new Scan(scan), this);
+                } catch (IOException e) {
+                    fail(e);
+                }
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            resumeIfNeeded(); // a suspended scan can only be terminated from within its callbacks
+            drain();
+        }
+
+        @Override
+        public void onNext(Result[] results, ScanController controller) {
+            if (cancelled || done) {
+                controller.terminate();
+                return;
+            }
+            try {
+                for (Result result : results) {
+                    V value = mapper.apply(result);
+                    if (value != null) {
+                        queue.offer(value);
+                    }
+                }
+            } catch (RuntimeException e) {
+                controller.terminate();
+                fail(e);
+                return;
+            }
+            resumer.set(controller.suspend());
+            drain();
+        }
+
+        @Override
+        public void onHeartbeat(ScanController controller) {
+            if (cancelled || done) {
+                controller.terminate();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void fail(Throwable throwable) {
+            if (!done) {
+                error = throwable;
+                done = true;
+            }
+            resumeIfNeeded();
+            drain();
+        }
+
+        private void resumeIfNeeded() {
+            if (resumer.get() != null && (cancelled || done || (requested.get() > 0 && queue.isEmpty()))) {
+                ScanResumer scanResumer = resumer.getAndSet(null);
+                if (scanResumer != null) {
+                    scanResumer.resume();
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long r = requested.get(), e = 0;
+                while (e != r) {
+                    if (cancelled) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    V value = queue.poll();
+                    if (d && value == null) {
+                        terminate();
+                        return;
+                    }
+                    if (value == null) {
+                        break;
+                    }
+                    subscriber.onNext(value);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled) {
+                        queue.clear();
+                        return;
+                    }
+                    if (done && queue.isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0 && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+            resumeIfNeeded();
+        }
+
+        /**
+         * Signals completion (or error) to the subscriber (the drain loop is left 'entered' after this, so that the subscriber isn't signalled again)
+         */
+        private void terminate() {
+            cancelled = true;
+            queue.clear();
+            Throwable throwable = error;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
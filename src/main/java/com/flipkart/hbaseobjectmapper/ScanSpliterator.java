@@ -0,0 +1,220 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over records matching a {@link Scan}, which splits by row key ranges (for internal use only)
+ * <p>
+ * Before traversal, a spliterator can be split: first by region boundaries of the table and then, when it's down to a single bounded row key range, at the midpoint of that range.
+ * Every spliterator runs its own scanner(s), opened on first traversal and closed when its ranges are exhausted or when {@link #close()} is called. The spliterator itself is <u>not</u> thread-safe (as per {@link Spliterator} contract), but different spliterators split from the same one can be traversed on different threads.
+ *
+ * @param <T> record type
+ */
+@SuppressWarnings("rawtypes")
+class ScanSpliterator<T extends HBRecord> implements Spliterator<T>, Closeable {
+    private final Connection connection;
+    private final TableName tableName;
+    private final HBObjectMapper hbObjectMapper;
+    private final Class<T> clazz;
+    private final Comparator<T> comparator;
+    private final Collection<ScanSpliterator<T>> openSpliterators;
+    private final List<Scan> ranges;
+    private boolean splitByRegions;
+    private long estimatedSize;
+    private int rangeIndex = 0;
+    private boolean traversalStarted = false;
+    private Table table;
+    private ResultScanner scanner;
+
+    /**
+     * @param comparator       Comparator of records by their serialized row keys (ignored for a reversed scan, whose records are in descending order and which therefore isn't reported {@link #SORTED})
+     * @param openSpliterators Spliterators with an open scanner (a spliterator adds itself to this on opening a scanner and removes itself on closing it), so that the owner of the root spliterator can close them all
+     * @param scan             Scan this spliterator covers
+     * @param scanner          Scanner that's already open for the scan (closed if this spliterator gets split before traversal), or <code>null</code>
+     */
+    ScanSpliterator(Connection connection, TableName tableName, HBObjectMapper hbObjectMapper, Class<T> clazz, Comparator<T> comparator, Collection<ScanSpliterator<T>> openSpliterators, Scan scan, ResultScanner scanner) {
+        this(connection, tableName, hbObjectMapper, clazz, scan.isReversed() ? null : comparator, openSpliterators, new ArrayList<>(), false, Long.MAX_VALUE);
+        this.ranges.add(scan);
+        this.scanner = scanner;
+    }
+
+    private ScanSpliterator(Connection connection, TableName tableName, HBObjectMapper hbObjectMapper, Class<T> clazz, Comparator<T> comparator, Collection<ScanSpliterator<T>> openSpliterators, List<Scan> ranges, boolean splitByRegions, long estimatedSize) {
+        this.connection = connection;
+        this.tableName = tableName;
+        this.hbObjectMapper = hbObjectMapper;
+        this.clazz = clazz;
+        this.comparator = comparator;
+        this.openSpliterators = openSpliterators;
+        this.ranges = ranges;
+        this.splitByRegions = splitByRegions;
+        this.estimatedSize = estimatedSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        traversalStarted = true;
+        try {
+            while (rangeIndex < ranges.size()) {
+                if (scanner == null) {
+                    openScanner(ranges.get(rangeIndex));
+                }
+                Result result = scanner.next();
+                if (result != null) {
+                    action.accept(mapResult(result));
+                    return true;
+                }
+                closeScanner();
+                rangeIndex++;
+            }
+            return false;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        //noinspection StatementWithEmptyBody
+        while (tryAdvance(action)) ;
+    }
+
+    /**
+     * Splits off a prefix of row key ranges of this spliterator (only before traversal has started)
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (traversalStarted) {
+            return null;
+        }
+        if (!splitByRegions) {
+            splitByRegions = true;
+            try (RegionLocator regionLocator = connection.getRegionLocator(tableName)) {
+                List<Scan> regionRanges = ScanSplitter.splitByRegions(ranges.get(0), regionLocator.getStartKeys());
+                ranges.clear();
+                ranges.addAll(regionRanges);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        final List<Scan> prefix;
+        if (ranges.size() > 1) {
+            List<Scan> firstHalf = ranges.subList(0, ranges.size() / 2);
+            prefix = new ArrayList<>(firstHalf);
+            firstHalf.clear();
+        } else {
+            Scan[] halves = splitAtMidpoint(ranges.get(0));
+            if (halves == null) {
+                return null;
+            }
+            prefix = new ArrayList<>(1);
+            prefix.add(halves[0]);
+            ranges.set(0, halves[1]);
+        }
+        closeScanner(); // the scanner that was open (if any) covers ranges of both halves
+        estimatedSize >>>= 1;
+        return new ScanSpliterator<>(connection, tableName, hbObjectMapper, clazz, comparator, openSpliterators, prefix, true, estimatedSize);
+    }
+
+    /**
+     * Split a scan into two, at the midpoint of its row key range (only if it's bounded on both sides and isn't a reversed or row-limited scan)
+     */
+    private static Scan[] splitAtMidpoint(Scan scan) {
+        final byte[] start = scan.getStartRow(), stop = scan.getStopRow();
+        if (scan.isReversed() || scan.getLimit() > 0 || start.length == 0 || stop.length == 0 || Bytes.compareTo(start, stop) >= 0) {
+            return null;
+        }
+        final byte[][] keys;
+        try {
+            keys = Bytes.split(start, stop, 1);
+        } catch (IllegalArgumentException e) {
+            return null; // range has no key in between its bounds (e.g. "a" and "a\0"), once the shorter bound is padded with zeros
+        }
+        if (keys == null || keys.length != 3) {
+            return null;
+        }
+        final byte[] mid = keys[1];
+        if (Bytes.compareTo(start, mid) >= 0 || Bytes.compareTo(mid, stop) >= 0) {
+            return null;
+        }
+        try {
+            return new Scan[]{new Scan(scan).withStopRow(mid, false), new Scan(scan).withStartRow(mid, true)};
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return comparator == null ? ORDERED | NONNULL : ORDERED | NONNULL | SORTED;
+    }
+
+    /**
+     * @return Comparator of records by their serialized row keys (which is the order in which HBase returns rows)
+     * @throws IllegalStateException If the scan is reversed (so records aren't {@link #SORTED})
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        if (comparator == null) {
+            throw new IllegalStateException("Records of a reversed scan aren't sorted in ascending order of row keys");
+        }
+        return comparator;
+    }
+
+    /**
+     * Close scanner this spliterator has open (if any) and end its traversal
+     */
+    @Override
+    public void close() {
+        closeScanner();
+        rangeIndex = ranges.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T mapResult(Result result) {
+        return (T) hbObjectMapper.readValueFromResult(result, clazz);
+    }
+
+    private void openScanner(Scan scan) throws IOException {
+        table = connection.getTable(tableName);
+        openSpliterators.add(this);
+        scanner = table.getScanner(scan);
+    }
+
+    private void closeScanner() {
+        if (scanner != null) {
+            scanner.close();
+            scanner = null;
+        }
+        if (table != null) {
+            try {
+                table.close();
+            } catch (IOException ignored) {
+            }
+            table = null;
+            openSpliterators.remove(this);
+        }
+    }
+}
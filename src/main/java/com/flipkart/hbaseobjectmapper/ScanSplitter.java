@@ -0,0 +1,62 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a {@link Scan} into scans of disjoint row key ranges, by region boundaries of a table (for internal use only)
+ */
+final class ScanSplitter {
+
+    private ScanSplitter() {
+    }
+
+    /**
+     * Split a scan by region boundaries
+     * <p>
+     * Every split scan is a copy of the given scan, covering the part of its row key range that falls in one region. Regions outside the scan's row key range get no split scan.
+     * Reversed scans and scans with a limit on number of rows aren't split (as that would change their results): a list with just a copy of the scan is returned for them.
+     *
+     * @param scan            Scan to split
+     * @param regionStartKeys Start keys of regions of the table, in order (as returned by {@link org.apache.hadoop.hbase.client.RegionLocator#getStartKeys()})
+     * @return Split scans, in order of their row key ranges
+     * @throws IOException If the scan couldn't be copied
+     */
+    static List<Scan> splitByRegions(Scan scan, byte[][] regionStartKeys) throws IOException {
+        if (scan.isReversed() || scan.getLimit() > 0 || regionStartKeys.length <= 1) {
+            return Collections.singletonList(new Scan(scan));
+        }
+        final byte[] scanStart = scan.getStartRow(), scanStop = scan.getStopRow();
+        final boolean isStopBounded = scanStop.length > 0;
+        List<Scan> splits = new ArrayList<>();
+        for (int i = 0; i < regionStartKeys.length; i++) {
+            final byte[] regionStart = regionStartKeys[i];
+            final byte[] regionEnd = i + 1 < regionStartKeys.length ? regionStartKeys[i + 1] : HConstants.EMPTY_END_ROW;
+            final boolean isLastRegion = regionEnd.length == 0;
+            if (!isLastRegion && Bytes.compareTo(regionEnd, scanStart) <= 0) {
+                continue; // region is entirely before scan's start row
+            }
+            if (isStopBounded) {
+                int cmp = Bytes.compareTo(regionStart, scanStop);
+                if (cmp > 0 || (cmp == 0 && !scan.includeStopRow())) {
+                    break; // this (and every subsequent) region is entirely after scan's stop row
+                }
+            }
+            Scan split = new Scan(scan);
+            if (Bytes.compareTo(regionStart, scanStart) > 0) {
+                split.withStartRow(regionStart, true);
+            }
+            if (!isLastRegion && (!isStopBounded || Bytes.compareTo(scanStop, regionEnd) >= 0)) {
+                split.withStopRow(regionEnd, false);
+            }
+            splits.add(split);
+        }
+        return splits.isEmpty() ? Collections.singletonList(new Scan(scan)) : splits;
+    }
+}
@@ -5,31 +5,80 @@ import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Records derived from the synchronous variant of HBase DAO.
+ * <br><br>
+ * Streams of these records (see {@link #stream()} and {@link #parallelStream()}) split the scan by region boundaries of the table and, within a region, at midpoints of row key ranges. So, a parallel stream runs multiple scanners concurrently.
+ * <br><br>
+ * In prefetch mode (see {@link AbstractHBDAO#prefetchingRecords(Scan, ExecutorService, int)}), rows are fetched and mapped ahead of iteration on an executor, instead of on the iterating thread. Streams of such records aren't split.
+ * <br><br>
+ * For a salted table (see {@link HBTable#saltBuckets()}), rows are fetched through one scanner per bucket and merged in order of row keys. Streams of such records aren't split either.
  *
  * @param <T> a record type
  */
 @SuppressWarnings("rawtypes")
 public class SyncRecords<T extends HBRecord> implements Records<T> {
+    private final Connection connection;
+    private final TableName tableName;
     private final HBObjectMapper hbObjectMapper;
     private final Class<T> clazz;
+    private final Scan scan;
     private final Table table;
     private final ResultScanner scanner;
+    private final boolean salted;
+    private final Queue<ScanSpliterator<T>> openSpliterators = new ConcurrentLinkedQueue<>();
+    private final ExecutorService prefetchExecutor;
+    private final int prefetchDepth;
+    private PrefetchingRecordsIterator<T> prefetchingIterator;
 
     SyncRecords(Connection connection, HBObjectMapper hbObjectMapper, Class<T> clazz, TableName tableName, Scan scan) throws IOException {
+        this(connection, hbObjectMapper, clazz, tableName, scan, null, 0);
+    }
+
+    /**
+     * @param prefetchExecutor Executor to fetch and map rows on, ahead of iteration (<code>null</code>, to fetch and map rows on the iterating thread)
+     * @param prefetchDepth    Maximum number of batches of mapped rows to keep ready for iteration (ignored if <code>prefetchExecutor</code> is <code>null</code>)
+     */
+    SyncRecords(Connection connection, HBObjectMapper hbObjectMapper, Class<T> clazz, TableName tableName, Scan scan, ExecutorService prefetchExecutor, int prefetchDepth) throws IOException {
+        if (prefetchExecutor != null && prefetchDepth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be at least 1");
+        }
+        this.prefetchExecutor = prefetchExecutor;
+        this.prefetchDepth = prefetchDepth;
+        this.connection = connection;
+        this.tableName = tableName;
         this.hbObjectMapper = hbObjectMapper;
         this.clazz = clazz;
+        this.scan = scan;
+        final WrappedHBTable<?, ?> hbTable = hbTableOf(hbObjectMapper, clazz);
+        this.salted = hbTable.getSalt() != null;
         this.table = connection.getTable(tableName);
-        this.scanner = table.getScanner(scan);
+        this.scanner = hbTable.getScanner(scan, table::getScanner);
     }
 
     @Override
     public void close() throws IOException {
+        synchronized (this) {
+            if (prefetchingIterator != null) {
+                prefetchingIterator.close();
+            }
+        }
+        for (ScanSpliterator<T> spliterator; (spliterator = openSpliterators.poll()) != null; ) {
+            spliterator.close();
+        }
         scanner.close();
         table.close();
     }
@@ -37,7 +86,36 @@ public class SyncRecords<T extends HBRecord> implements Records<T> {
     @SuppressWarnings("NullableProblems")
     @Override
     public Iterator<T> iterator() {
-        return new RecordsIterator<>(hbObjectMapper, clazz, scanner.iterator());
+        if (prefetchExecutor == null) {
+            return new RecordsIterator<>(hbObjectMapper, clazz, scanner.iterator());
+        }
+        synchronized (this) {
+            if (prefetchingIterator == null) {
+                prefetchingIterator = new PrefetchingRecordsIterator<>(hbObjectMapper, clazz, scanner, prefetchExecutor, Math.max(scan.getCaching(), 100), prefetchDepth);
+            }
+            return prefetchingIterator;
+        }
+    }
+
+    /**
+     * Spliterator that splits by row key ranges (see {@link #stream()}). Records can be consumed only once: either through {@link #iterator()} or through this.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        if (prefetchExecutor != null || salted) {
+            return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+        return new ScanSpliterator<>(connection, tableName, hbObjectMapper, clazz, rowKeyComparator(), openSpliterators, scan, scanner);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WrappedHBTable<?, ?> hbTableOf(HBObjectMapper hbObjectMapper, Class<? extends HBRecord> clazz) {
+        return hbObjectMapper.getEntityMapping(clazz).getHBTable();
     }
 
+    @SuppressWarnings("unchecked")
+    private Comparator<T> rowKeyComparator() {
+        final Map<String, String> codecFlags = hbObjectMapper.validateHBClass(clazz).getCodecFlags();
+        return Comparator.comparing(record -> hbObjectMapper.rowKeyToBytes((Serializable & Comparable) record.composeRowKey(), codecFlags), Bytes.BYTES_COMPARATOR);
+    }
 }
@@ -0,0 +1,80 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A pool of {@link Table} handles to one HBase table (for internal use only)
+ * <p>
+ * A {@link Table} mustn't be used by more than one thread at a time, but is reusable. So, instead of acquiring and closing a handle for every call, a handle is borrowed from this pool and returned after use.
+ * The pool grows up to the peak number of concurrent borrowers and handles are closed only when the pool is closed.
+ * <p>
+ * <b>This class is thread-safe.</b>
+ */
+class TablePool implements Closeable {
+
+    /**
+     * Acquires a new handle to the table (e.g. {@link AbstractHBDAO#getHBaseTable()})
+     */
+    @FunctionalInterface
+    interface TableFactory {
+        Table newTable() throws IOException;
+    }
+
+    private final TableFactory tableFactory;
+    private final Queue<Table> idleTables = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed = false;
+
+    TablePool(TableFactory tableFactory) {
+        this.tableFactory = tableFactory;
+    }
+
+    /**
+     * Borrow a table handle (must be returned through {@link #release(Table)} after use)
+     * <p>
+     * Once the pool is closed, this still works, but returned handles get closed rather than pooled.
+     */
+    Table borrow() throws IOException {
+        Table table = idleTables.poll();
+        return table != null ? table : tableFactory.newTable();
+    }
+
+    void release(Table table) throws IOException {
+        if (closed) {
+            table.close();
+            return;
+        }
+        idleTables.offer(table);
+        if (closed && idleTables.remove(table)) { // raced with close()
+            table.close();
+        }
+    }
+
+    /**
+     * Closes idle table handles. Handles borrowed at this point get closed as and when they're returned.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        IOException exception = null;
+        Table table;
+        while ((table = idleTables.poll()) != null) {
+            try {
+                table.close();
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
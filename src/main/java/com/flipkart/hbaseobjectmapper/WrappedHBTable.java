@@ -3,7 +3,10 @@ package com.flipkart.hbaseobjectmapper;
 import com.flipkart.hbaseobjectmapper.exceptions.DuplicateCodecFlagForRowKeyException;
 import com.flipkart.hbaseobjectmapper.exceptions.ImproperHBTableAnnotationExceptions;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +22,7 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
     private final TableName tableName;
     private final Map<String, Integer> families; // This should evolve to Map<String, FamilyDetails>
     private final Map<String, String> codecFlags;
+    private final RowKeySalt salt;
     private final Class<T> clazz;
 
     WrappedHBTable(Class<T> clazz) {
@@ -36,6 +40,15 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
             tableName = TableName.valueOf(hbTable.namespace(), hbTable.name());
         }
         codecFlags = toMap(hbTable.rowKeyCodecFlags());
+        if (hbTable.saltBuckets() == 0) {
+            salt = null;
+        } else {
+            try {
+                salt = new RowKeySalt(hbTable.saltBuckets());
+            } catch (IllegalArgumentException e) {
+                throw new ImproperHBTableAnnotationExceptions.InvalidValueForSaltBucketsOnHBTableAnnotationException(String.format("The %s annotation on class %s has invalid 'saltBuckets' %d (%s)", HBTable.class.getSimpleName(), clazz.getName(), hbTable.saltBuckets(), e.getMessage()));
+            }
+        }
         families = new HashMap<>(hbTable.families().length, 1.0f);
         for (Family family : hbTable.families()) {
             if (family.name().isEmpty()) {
@@ -78,6 +91,20 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
         return codecFlags;
     }
 
+    /**
+     * @return Salting of row keys, or <code>null</code> if row keys aren't salted
+     */
+    RowKeySalt getSalt() {
+        return salt;
+    }
+
+    /**
+     * Opens a scanner for a scan over row keys of this table: if the table is salted, start/stop rows of the scan are taken to be unsalted and the scan is run on every bucket (see {@link RowKeySalt#getScanner(Scan, RowKeySalt.ScannerFactory)})
+     */
+    ResultScanner getScanner(Scan scan, RowKeySalt.ScannerFactory scannerFactory) throws IOException {
+        return salt == null ? scannerFactory.getScanner(scan) : salt.getScanner(scan, scannerFactory);
+    }
+
     @Override
     public String toString() {
         return tableName.getNameWithNamespaceInclAsString();
@@ -0,0 +1,43 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts writes per stripe of keys, so that a read can tell whether its key may have been written to since the read started (for internal use only)
+ * <p>
+ * A reader captures {@link #get(int)} before reading and compares it after: if it changed, the key (or another key of its stripe) was written to meanwhile and what was read may predate that write.
+ * Keys are spread over a fixed number of stripes, so memory used stays bounded however many keys there are, at the cost of a write to one key occasionally being taken for a write to another.
+ * <p>
+ * <b>This class is thread-safe.</b>
+ */
+class WriteSequences {
+    static final int STRIPES_BITS = 10;
+    static final int STRIPES = 1 << STRIPES_BITS;
+
+    private final AtomicLongArray sequences = new AtomicLongArray(STRIPES);
+
+    /**
+     * @param keyHash Hash code of key (e.g. {@link java.util.Arrays#hashCode(byte[])} of a serialized row key)
+     * @return Stripe of the key
+     */
+    static int stripe(int keyHash) {
+        return (keyHash * 0x9E3779B9) >>> (Integer.SIZE - STRIPES_BITS);
+    }
+
+    /**
+     * @param keyHash Hash code of key
+     * @return Number of writes to the key's stripe so far
+     */
+    long get(int keyHash) {
+        return sequences.get(stripe(keyHash));
+    }
+
+    /**
+     * Record a write to a key (after it's applied)
+     *
+     * @param keyHash Hash code of key
+     */
+    void increment(int keyHash) {
+        sequences.incrementAndGet(stripe(keyHash));
+    }
+}
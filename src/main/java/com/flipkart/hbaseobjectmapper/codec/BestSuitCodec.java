@@ -11,12 +11,16 @@ import org.apache.hadoop.hbase.util.Bytes;
 import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This is an implementation of {@link Codec} that:
  * <ol>
  * <li>uses HBase's native methods to serialize objects of data types {@link Boolean}, {@link Short}, {@link Integer}, {@link Long}, {@link Float}, {@link Double}, {@link String} and {@link BigDecimal}</li>
+ * <li>serializes {@link Tuple}s into an order-preserving binary form, built on HBase's {@link org.apache.hadoop.hbase.util.OrderedBytes OrderedBytes} (see {@link Tuple})</li>
  * <li>uses Jackson's JSON serializer for all other data types</li>
  * <li>serializes <code>null</code> as <code>null</code></li>
  * </ol>
@@ -24,16 +28,27 @@ import java.util.Map;
  * This codec takes the following {@link Flag Flag}s:
  * <ul>
  * <li><b><code>{@link #SERIALIZE_AS_STRING}</code></b>: When this flag is "true", this codec stores field/rowkey values in it's string representation (e.g. <b>560034</b> is serialized into a <code>byte[]</code> that represents the string <b>"560034"</b>). This flag applies only to fields or rowkeys of data types in point 1 above.</li>
+ * <li><b><code>{@link #SERIALIZE_AS_ORDERED_BYTES}</code></b>: When this flag is "true", this codec stores field/rowkey values in an order-preserving binary form (built on HBase's {@link org.apache.hadoop.hbase.util.OrderedBytes OrderedBytes}), so that serialized values sort the way the values do (e.g. <b>-1</b> before <b>1</b>, unlike with HBase's native methods). This flag applies only to fields or rowkeys of data types in point 1 above and takes precedence over <code>{@link #SERIALIZE_AS_STRING}</code>.</li>
  * </ul>
  * <p>
+ * Values of fields are (de)serialized through {@link #specialize(Type, Map) specialized codecs}, which resolve the data type, flags and Jackson's reader upfront.
+ * If you extend this class and override any of its serialization or deserialization methods, your overrides are honoured and specialization is skipped.
+ * <p>
  * This is the default codec for {@link com.flipkart.hbaseobjectmapper.HBObjectMapper HBObjectMapper}.
  */
 
 public class BestSuitCodec implements Codec {
     public static final String SERIALIZE_AS_STRING = "serializeAsString";
+    public static final String SERIALIZE_AS_ORDERED_BYTES = "serializeAsOrderedBytes";
 
     private final ObjectMapper objectMapper;
 
+    private final ObjectWriter objectWriter;
+
+    private final ConcurrentMap<Type, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+    private final boolean serializationOverridden, deserializationOverridden;
+
     /**
      * Construct an object of class {@link BestSuitCodec} with custom instance of Jackson's Object Mapper
      *
@@ -42,6 +57,12 @@ public class BestSuitCodec implements Codec {
     @SuppressWarnings("WeakerAccess")
     public BestSuitCodec(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer();
+        this.serializationOverridden = isOverridden("serialize", Serializable.class, Map.class)
+                || isOverridden("serialize", Serializable.class, Map.class, ByteBuffer.class);
+        this.deserializationOverridden = isOverridden("deserialize", byte[].class, Type.class, Map.class)
+                || isOverridden("deserialize", byte[].class, int.class, int.class, Type.class, Map.class)
+                || isOverridden("deserialize", ByteBuffer.class, Type.class, Map.class);
     }
 
     /**
@@ -59,6 +80,14 @@ public class BestSuitCodec implements Codec {
         return objectMapper;
     }
 
+    private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+        try {
+            return getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != BestSuitCodec.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /*
      * @inherit
      */
@@ -67,37 +96,30 @@ public class BestSuitCodec implements Codec {
         if (object == null) {
             return null;
         }
-        Class<?> clazz = object.getClass();
+        if (object instanceof Tuple || (isSerializeAsOrderedBytesTrue(flags) && NativeType.of(object.getClass()) != null)) {
+            return OrderedEncoding.encode(object);
+        }
         if (isSerializeAsStringTrue(flags)) {
-            object = String.valueOf(object);
-            clazz = String.class;
+            return serializeNatively(NativeType.STRING, String.valueOf(object));
         }
-        try {
-            if (clazz == String.class) {
-                return Bytes.toBytes((String) object);
-            } else if (clazz == Integer.class) {
-                return Bytes.toBytes((int) object);
-            } else if (clazz == Short.class) {
-                return Bytes.toBytes((short) object);
-            } else if (clazz == Long.class) {
-                return Bytes.toBytes((long) object);
-            } else if (clazz == Float.class) {
-                return Bytes.toBytes((float) object);
-            } else if (clazz == Double.class) {
-                return Bytes.toBytes((double) object);
-            } else if (clazz == BigDecimal.class) {
-                return Bytes.toBytes((BigDecimal) object);
-            } else if (clazz == Boolean.class) {
-                return Bytes.toBytes((boolean) object);
-            }
-        } catch (Exception e) {
-            throw new SerializationException(String.format("Could not serialize value of type %s using HBase's native methods", clazz.getName()), e);
+        return serializeAsPerRuntimeType(object);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public int serialize(Serializable object, Map<String, String> flags, ByteBuffer buffer) throws SerializationException {
+        if (object == null) {
+            return -1;
         }
-        try {
-            return objectMapper.writeValueAsBytes(object);
-        } catch (Exception e) {
-            throw new SerializationException("Could not serialize object to JSON using Jackson", e);
+        if (!serializationOverridden && !isSerializeAsStringTrue(flags) && !isSerializeAsOrderedBytesTrue(flags)) {
+            NativeType nativeType = NativeType.of(object.getClass());
+            if (nativeType != null && nativeType != NativeType.STRING && nativeType != NativeType.BIG_DECIMAL) {
+                return nativeType.write(buffer, object);
+            }
         }
+        return Codec.super.serialize(object, flags, buffer);
     }
 
     /*
@@ -107,60 +129,84 @@ public class BestSuitCodec implements Codec {
     public Serializable deserialize(byte[] bytes, Type type, Map<String, String> flags) throws DeserializationException {
         if (bytes == null)
             return null;
-        boolean serializeAsString = isSerializeAsStringTrue(flags);
-        if (type instanceof Class) {
-            if (serializeAsString) {
-                try {
-                    String string = Bytes.toString(bytes);
-                    if (type == Integer.class) {
-                        return Integer.valueOf(string);
-                    } else if (type == Long.class) {
-                        return Long.valueOf(string);
-                    } else if (type == Short.class) {
-                        return Short.valueOf(string);
-                    } else if (type == Float.class) {
-                        return Float.valueOf(string);
-                    } else if (type == Double.class) {
-                        return Double.valueOf(string);
-                    } else if (type == BigDecimal.class) {
-                        return new BigDecimal(string);
-                    } else if (type == Boolean.class) {
-                        return Boolean.valueOf(string);
-                    }
-                } catch (Exception e) {
-                    throw new DeserializationException("Could not deserialize byte array into an object using HBase's native methods (note: serialize as string is on)", e);
-                }
-            } else {
-                try {
-                    if (type == String.class) {
-                        return Bytes.toString(bytes);
-                    } else if (type == Integer.class) {
-                        return Bytes.toInt(bytes);
-                    } else if (type == Long.class) {
-                        return Bytes.toLong(bytes);
-                    } else if (type == Short.class) {
-                        return Bytes.toShort(bytes);
-                    } else if (type == Float.class) {
-                        return Bytes.toFloat(bytes);
-                    } else if (type == Double.class) {
-                        return Bytes.toDouble(bytes);
-                    } else if (type == BigDecimal.class) {
-                        return Bytes.toBigDecimal(bytes);
-                    } else if (type == Boolean.class) {
-                        return Bytes.toBoolean(bytes);
-                    }
-                } catch (Exception e) {
-                    throw new DeserializationException("Could not deserialize byte array into an object using HBase's native methods", e);
-                }
+        return deserialize(bytes, 0, bytes.length, type, flags);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public Serializable deserialize(byte[] bytes, int offset, int length, Type type, Map<String, String> flags) throws DeserializationException {
+        if (bytes == null)
+            return null;
+        if (deserializationOverridden) {
+            return Codec.super.deserialize(bytes, offset, length, type, flags);
+        }
+        if (type == Tuple.class || (isSerializeAsOrderedBytesTrue(flags) && OrderedEncoding.supports(type))) {
+            return OrderedEncoding.decode(type, bytes, offset, length);
+        }
+        NativeType nativeType = NativeType.of(type);
+        if (isSerializeAsStringTrue(flags)) {
+            if (nativeType != null && nativeType.stringParser() != null) {
+                return deserializeFromString(nativeType, bytes, offset, length);
             }
+        } else if (nativeType != null) {
+            return deserializeNatively(nativeType, bytes, offset, length);
+        }
+        return deserializeFromJson(objectReaderFor(type), type, bytes, offset, length);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public Serializable deserialize(ByteBuffer buffer, Type type, Map<String, String> flags) throws DeserializationException {
+        if (buffer == null || buffer.hasArray() || deserializationOverridden || isSerializeAsStringTrue(flags) || isSerializeAsOrderedBytesTrue(flags)) {
+            return Codec.super.deserialize(buffer, type, flags);
+        }
+        NativeType nativeType = NativeType.of(type);
+        if (nativeType == null) {
+            return Codec.super.deserialize(buffer, type, flags);
         }
-        JavaType javaType = null;
         try {
-            javaType = objectMapper.constructType(type);
-            return objectMapper.readValue(bytes, javaType);
+            return nativeType.fromBuffer(buffer, buffer.position(), buffer.remaining());
         } catch (Exception e) {
-            throw new DeserializationException(String.format("Could not deserialize JSON into an object of type %s using Jackson%n(Jackson resolved type = %s)", type, javaType), e);
+            throw new DeserializationException("Could not deserialize byte buffer into an object using HBase's native methods", e);
+        }
+    }
+
+    /**
+     * Get a codec specialized for values of a specific type and flags
+     * <p>
+     * The returned codec (de)serializes values exactly the way this codec does, except that the data type, the flags {@link #SERIALIZE_AS_STRING} and {@link #SERIALIZE_AS_ORDERED_BYTES} and Jackson's reader are resolved once, here.
+     *
+     * @param type  Java type of values
+     * @param flags Flags for tuning serialization and deserialization behavior
+     * @return A codec specialized for given type and flags
+     */
+    @Override
+    public ValueCodec specialize(Type type, Map<String, String> flags) {
+        if (serializationOverridden || deserializationOverridden) {
+            return Codec.super.specialize(type, flags);
         }
+        if (type == Tuple.class || (isSerializeAsOrderedBytesTrue(flags) && OrderedEncoding.supports(type))) {
+            return new OrderedValueCodec(type);
+        }
+        NativeType nativeType = NativeType.of(type);
+        if (isSerializeAsStringTrue(flags)) {
+            if (nativeType != null && nativeType.stringParser() != null) {
+                return new StringValueCodec(nativeType);
+            }
+        } else if (nativeType != null) {
+            return new NativeValueCodec(nativeType);
+        }
+        final ObjectReader objectReader;
+        try {
+            objectReader = objectReaderFor(type);
+        } catch (RuntimeException e) {
+            return Codec.super.specialize(type, flags); // error, if any, would surface when a value gets deserialized
+        }
+        return isSerializeAsStringTrue(flags) ? new StringValueCodec(type, objectReader) : new JsonValueCodec(type, objectReader);
     }
 
     /*
@@ -168,11 +214,168 @@ public class BestSuitCodec implements Codec {
      */
     @Override
     public boolean canDeserialize(Type type) {
+        if (type == Tuple.class) {
+            return true;
+        }
         JavaType javaType = objectMapper.constructType(type);
         return objectMapper.canDeserialize(javaType);
     }
 
+    private ObjectReader objectReaderFor(Type type) {
+        ObjectReader objectReader = objectReaders.get(type);
+        if (objectReader == null) {
+            objectReader = objectReaders.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.constructType(t)));
+        }
+        return objectReader;
+    }
+
+    private byte[] serializeAsPerRuntimeType(Serializable object) throws SerializationException {
+        NativeType nativeType = NativeType.of(object.getClass());
+        if (nativeType != null) {
+            return serializeNatively(nativeType, object);
+        }
+        try {
+            return objectWriter.writeValueAsBytes(object);
+        } catch (Exception e) {
+            throw new SerializationException("Could not serialize object to JSON using Jackson", e);
+        }
+    }
+
+    private static byte[] serializeNatively(NativeType nativeType, Serializable object) throws SerializationException {
+        try {
+            return nativeType.toBytes(object);
+        } catch (Exception e) {
+            throw new SerializationException(String.format("Could not serialize value of type %s using HBase's native methods", object.getClass().getName()), e);
+        }
+    }
+
+    private static Serializable deserializeNatively(NativeType nativeType, byte[] bytes, int offset, int length) throws DeserializationException {
+        try {
+            return nativeType.fromBytes(bytes, offset, length);
+        } catch (Exception e) {
+            throw new DeserializationException("Could not deserialize byte array into an object using HBase's native methods", e);
+        }
+    }
+
+    private static Serializable deserializeFromString(NativeType nativeType, byte[] bytes, int offset, int length) throws DeserializationException {
+        try {
+            return nativeType.stringParser().apply(Bytes.toString(bytes, offset, length));
+        } catch (Exception e) {
+            throw new DeserializationException("Could not deserialize byte array into an object using HBase's native methods (note: serialize as string is on)", e);
+        }
+    }
+
+    private static Serializable deserializeFromJson(ObjectReader objectReader, Type type, byte[] bytes, int offset, int length) throws DeserializationException {
+        try {
+            return objectReader.readValue(bytes, offset, length);
+        } catch (Exception e) {
+            throw new DeserializationException(String.format("Could not deserialize JSON into an object of type %s using Jackson%n(Jackson resolved type = %s)", type, objectReader.getValueType()), e);
+        }
+    }
+
     private static boolean isSerializeAsStringTrue(Map<String, String> flags) {
         return flags != null && flags.get(SERIALIZE_AS_STRING) != null && flags.get(SERIALIZE_AS_STRING).equalsIgnoreCase("true");
     }
+
+    private static boolean isSerializeAsOrderedBytesTrue(Map<String, String> flags) {
+        return flags != null && flags.get(SERIALIZE_AS_ORDERED_BYTES) != null && flags.get(SERIALIZE_AS_ORDERED_BYTES).equalsIgnoreCase("true");
+    }
+
+    /**
+     * For fields of data types serialized using HBase's native methods
+     */
+    private static class NativeValueCodec implements ValueCodec {
+        private final NativeType nativeType;
+
+        NativeValueCodec(NativeType nativeType) {
+            this.nativeType = nativeType;
+        }
+
+        @Override
+        public byte[] serialize(Serializable object) throws SerializationException {
+            return object == null ? null : serializeNatively(nativeType, object);
+        }
+
+        @Override
+        public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+            return bytes == null ? null : deserializeNatively(nativeType, bytes, offset, length);
+        }
+    }
+
+    /**
+     * For fields of type {@link Tuple} and for fields with flag {@link #SERIALIZE_AS_ORDERED_BYTES} set
+     */
+    private static class OrderedValueCodec implements ValueCodec {
+        private final Type type;
+
+        OrderedValueCodec(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public byte[] serialize(Serializable object) throws SerializationException {
+            return object == null ? null : OrderedEncoding.encode(object);
+        }
+
+        @Override
+        public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+            return bytes == null ? null : OrderedEncoding.decode(type, bytes, offset, length);
+        }
+    }
+
+    /**
+     * For fields with flag {@link #SERIALIZE_AS_STRING} set
+     */
+    private static class StringValueCodec implements ValueCodec {
+        private final NativeType nativeType;
+        private final Type type;
+        private final ObjectReader objectReader;
+
+        StringValueCodec(NativeType nativeType) {
+            this.nativeType = nativeType;
+            this.type = null;
+            this.objectReader = null;
+        }
+
+        StringValueCodec(Type type, ObjectReader objectReader) {
+            this.nativeType = null;
+            this.type = type;
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public byte[] serialize(Serializable object) throws SerializationException {
+            return object == null ? null : serializeNatively(NativeType.STRING, String.valueOf(object));
+        }
+
+        @Override
+        public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+            if (bytes == null)
+                return null;
+            return nativeType != null ? deserializeFromString(nativeType, bytes, offset, length) : deserializeFromJson(objectReader, type, bytes, offset, length);
+        }
+    }
+
+    /**
+     * For fields of all other data types (note: values are serialized as per their runtime type, as {@link #serialize(Serializable, Map)} does)
+     */
+    private class JsonValueCodec implements ValueCodec {
+        private final Type type;
+        private final ObjectReader objectReader;
+
+        JsonValueCodec(Type type, ObjectReader objectReader) {
+            this.type = type;
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public byte[] serialize(Serializable object) throws SerializationException {
+            return object == null ? null : serializeAsPerRuntimeType(object);
+        }
+
+        @Override
+        public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+            return bytes == null ? null : deserializeFromJson(objectReader, type, bytes, offset, length);
+        }
+    }
 }
@@ -7,6 +7,8 @@ import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
 
 import java.io.Serializable;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -37,6 +39,84 @@ public interface Codec {
      */
     Serializable deserialize(byte[] bytes, Type type, Map<String, String> flags) throws DeserializationException;
 
+    /**
+     * Deserialize a slice of a <code>byte[]</code> (e.g. value of an HBase cell within its backing array) into an object
+     * <p>
+     * The default implementation copies the slice and calls {@link #deserialize(byte[], Type, Map)}. Implementations are encouraged to override this to decode in place.
+     *
+     * @param bytes  byte array that contains the bytes to be deserialized
+     * @param offset offset of the bytes to be deserialized
+     * @param length number of bytes to be deserialized
+     * @param type   Java type to which the bytes need to be deserialized to
+     * @param flags  Flags for tuning deserialization behavior (Implementations of this method are expected to handle <code>null</code> and <code>empty map</code> in the same way)
+     * @return The object
+     * @throws DeserializationException If deserialization fails (e.g. malformed string or definition of a data type used isn't available at runtime)
+     * @see #deserialize(byte[], Type, Map)
+     */
+    default Serializable deserialize(byte[] bytes, int offset, int length, Type type, Map<String, String> flags) throws DeserializationException {
+        if (bytes == null)
+            return null;
+        return deserialize(offset == 0 && length == bytes.length ? bytes : Arrays.copyOfRange(bytes, offset, offset + length), type, flags);
+    }
+
+    /**
+     * Deserialize the remaining bytes of a {@link ByteBuffer} into an object (the buffer's position is left unchanged)
+     * <p>
+     * The default implementation decodes from the buffer's backing array, if it has one, or else, from a copy of the remaining bytes.
+     *
+     * @param buffer buffer whose remaining bytes need to be deserialized
+     * @param type   Java type to which the bytes need to be deserialized to
+     * @param flags  Flags for tuning deserialization behavior (Implementations of this method are expected to handle <code>null</code> and <code>empty map</code> in the same way)
+     * @return The object
+     * @throws DeserializationException If deserialization fails (e.g. malformed string or definition of a data type used isn't available at runtime)
+     * @see #deserialize(byte[], int, int, Type, Map)
+     */
+    default Serializable deserialize(ByteBuffer buffer, Type type, Map<String, String> flags) throws DeserializationException {
+        if (buffer == null)
+            return null;
+        if (buffer.hasArray()) {
+            return deserialize(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), type, flags);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return deserialize(bytes, type, flags);
+    }
+
+    /**
+     * Serializes object into a caller-supplied {@link ByteBuffer}, starting at its current position (which is advanced by the number of bytes written)
+     * <p>
+     * The default implementation calls {@link #serialize(Serializable, Map)} and copies the resulting <code>byte[]</code> into the buffer.
+     *
+     * @param object Object to be serialized
+     * @param flags  Flags for tuning serialization behavior (Implementations of this method are expected to handle <code>null</code> and <code>empty map</code> in the same way)
+     * @param buffer Buffer to which serialized bytes are to be written
+     * @return Number of bytes written, or <code>-1</code> if the object serializes to <code>null</code> (nothing is written in this case)
+     * @throws SerializationException          If serialization fails (e.g. when input <code>object</code> has a field of data type that isn't serializable by this codec)
+     * @throws java.nio.BufferOverflowException If there isn't enough space remaining in the buffer
+     * @see #serialize(Serializable, Map)
+     */
+    default int serialize(Serializable object, Map<String, String> flags, ByteBuffer buffer) throws SerializationException {
+        byte[] bytes = serialize(object, flags);
+        if (bytes == null)
+            return -1;
+        buffer.put(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Get a codec specialized for values of a specific type and flags, so that type and flags needn't be examined for every value
+     * <p>
+     * This is called once per field (and once for row key) of an entity class, when {@link HBObjectMapper HBObjectMapper} first encounters the class.
+     * The default implementation returns a codec that delegates to {@link #serialize(Serializable, Map)} and {@link #deserialize(byte[], int, int, Type, Map)}.
+     *
+     * @param type  Java type of values
+     * @param flags Flags for tuning serialization and deserialization behavior
+     * @return A codec that (de)serializes values exactly the way this codec does, for the given type and flags
+     */
+    default ValueCodec specialize(Type type, Map<String, String> flags) {
+        return new DefaultValueCodec(this, type, flags);
+    }
+
     /**
      * Check whether a specific type can be deserialized using this codec
      *
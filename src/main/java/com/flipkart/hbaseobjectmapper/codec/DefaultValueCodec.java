@@ -0,0 +1,33 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * A {@link ValueCodec} that just delegates to a {@link Codec}, passing it the type and flags it was specialized for (for internal use only)
+ */
+class DefaultValueCodec implements ValueCodec {
+    private final Codec codec;
+    private final Type type;
+    private final Map<String, String> flags;
+
+    DefaultValueCodec(Codec codec, Type type, Map<String, String> flags) {
+        this.codec = codec;
+        this.type = type;
+        this.flags = flags;
+    }
+
+    @Override
+    public byte[] serialize(Serializable object) throws SerializationException {
+        return codec.serialize(object, flags);
+    }
+
+    @Override
+    public Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+        return codec.deserialize(bytes, offset, length, type, flags);
+    }
+}
@@ -0,0 +1,249 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import org.apache.hadoop.hbase.util.ByteBufferUtils;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Data types that {@link BestSuitCodec} serializes using HBase's native methods, along with those methods (for internal use only)
+ * <p>
+ * Fixed-width types are read off the leading bytes of their input (as HBase's {@link Bytes} does for whole arrays), but never beyond its length.
+ */
+enum NativeType {
+    STRING(String.class, null) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((String) object);
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Bytes.toString(bytes, offset, length);
+        }
+    },
+    INTEGER(Integer.class, Integer::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((int) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            ByteBufferUtils.putInt(buffer, (int) object);
+            return Bytes.SIZEOF_INT;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Bytes.toInt(bytes, offset, atLeast(Bytes.SIZEOF_INT, length));
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            atLeast(Bytes.SIZEOF_INT, length);
+            return ByteBufferUtils.toInt(buffer, position);
+        }
+    },
+    SHORT(Short.class, Short::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((short) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            ByteBufferUtils.putShort(buffer, (short) object);
+            return Bytes.SIZEOF_SHORT;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Bytes.toShort(bytes, offset, atLeast(Bytes.SIZEOF_SHORT, length));
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            atLeast(Bytes.SIZEOF_SHORT, length);
+            return ByteBufferUtils.toShort(buffer, position);
+        }
+    },
+    LONG(Long.class, Long::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((long) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            ByteBufferUtils.putLong(buffer, (long) object);
+            return Bytes.SIZEOF_LONG;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Bytes.toLong(bytes, offset, atLeast(Bytes.SIZEOF_LONG, length));
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            atLeast(Bytes.SIZEOF_LONG, length);
+            return ByteBufferUtils.toLong(buffer, position);
+        }
+    },
+    FLOAT(Float.class, Float::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((float) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            ByteBufferUtils.putInt(buffer, Float.floatToRawIntBits((float) object));
+            return Bytes.SIZEOF_FLOAT;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Float.intBitsToFloat(Bytes.toInt(bytes, offset, atLeast(Bytes.SIZEOF_FLOAT, length)));
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            atLeast(Bytes.SIZEOF_FLOAT, length);
+            return Float.intBitsToFloat(ByteBufferUtils.toInt(buffer, position));
+        }
+    },
+    DOUBLE(Double.class, Double::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((double) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            ByteBufferUtils.putLong(buffer, Double.doubleToRawLongBits((double) object));
+            return Bytes.SIZEOF_DOUBLE;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Double.longBitsToDouble(Bytes.toLong(bytes, offset, atLeast(Bytes.SIZEOF_DOUBLE, length)));
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            atLeast(Bytes.SIZEOF_DOUBLE, length);
+            return ByteBufferUtils.toDouble(buffer, position);
+        }
+    },
+    BIG_DECIMAL(BigDecimal.class, BigDecimal::new) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((BigDecimal) object);
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            return Bytes.toBigDecimal(bytes, offset, length);
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            return ByteBufferUtils.toBigDecimal(buffer, position, length);
+        }
+    },
+    BOOLEAN(Boolean.class, Boolean::valueOf) {
+        @Override
+        byte[] toBytes(Object object) {
+            return Bytes.toBytes((boolean) object);
+        }
+
+        @Override
+        int write(ByteBuffer buffer, Object object) {
+            buffer.put((boolean) object ? (byte) -1 : (byte) 0);
+            return Bytes.SIZEOF_BOOLEAN;
+        }
+
+        @Override
+        Serializable fromBytes(byte[] bytes, int offset, int length) {
+            if (length != Bytes.SIZEOF_BOOLEAN) {
+                throw new IllegalArgumentException("Array has wrong size: " + length);
+            }
+            return bytes[offset] != (byte) 0;
+        }
+
+        @Override
+        Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+            if (length != Bytes.SIZEOF_BOOLEAN) {
+                throw new IllegalArgumentException("Array has wrong size: " + length);
+            }
+            return buffer.get(position) != (byte) 0;
+        }
+    };
+
+    private static final Map<Type, NativeType> NATIVE_TYPES = new HashMap<>();
+
+    static {
+        for (NativeType nativeType : values()) {
+            NATIVE_TYPES.put(nativeType.clazz, nativeType);
+        }
+    }
+
+    private final Class<?> clazz;
+    private final Function<String, Serializable> stringParser;
+
+    NativeType(Class<?> clazz, Function<String, Serializable> stringParser) {
+        this.clazz = clazz;
+        this.stringParser = stringParser;
+    }
+
+    /**
+     * @return Native type corresponding to the given Java type, or <code>null</code> if the type isn't serialized natively
+     */
+    static NativeType of(Type type) {
+        return NATIVE_TYPES.get(type);
+    }
+
+    abstract byte[] toBytes(Object object);
+
+    /**
+     * Writes object to the buffer (at its position, which is advanced)
+     *
+     * @return Number of bytes written
+     */
+    int write(ByteBuffer buffer, Object object) {
+        byte[] bytes = toBytes(object);
+        buffer.put(bytes);
+        return bytes.length;
+    }
+
+    abstract Serializable fromBytes(byte[] bytes, int offset, int length);
+
+    /**
+     * Reads from the buffer (at the given position, without moving the buffer's position)
+     */
+    Serializable fromBuffer(ByteBuffer buffer, int position, int length) {
+        return fromBytes(ByteBufferUtils.toBytes(buffer, position, length), 0, length);
+    }
+
+    /**
+     * @return Parser of values of this type from their string representations (when the flag {@link BestSuitCodec#SERIALIZE_AS_STRING} is set), or <code>null</code> if such values are read as JSON instead (as {@link String} values are)
+     */
+    Function<String, Serializable> stringParser() {
+        return stringParser;
+    }
+
+    private static int atLeast(int size, int length) {
+        if (length < size) {
+            throw new IllegalArgumentException(String.format("Expected at least %d bytes, but got %d", size, length));
+        }
+        return size;
+    }
+}
@@ -0,0 +1,172 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+import org.apache.hadoop.hbase.types.DataType;
+import org.apache.hadoop.hbase.types.OrderedFloat32;
+import org.apache.hadoop.hbase.types.OrderedFloat64;
+import org.apache.hadoop.hbase.types.OrderedInt16;
+import org.apache.hadoop.hbase.types.OrderedInt32;
+import org.apache.hadoop.hbase.types.OrderedInt64;
+import org.apache.hadoop.hbase.types.OrderedInt8;
+import org.apache.hadoop.hbase.types.OrderedNumeric;
+import org.apache.hadoop.hbase.types.OrderedString;
+import org.apache.hadoop.hbase.util.Order;
+import org.apache.hadoop.hbase.util.OrderedBytes;
+import org.apache.hadoop.hbase.util.PositionedByteRange;
+import org.apache.hadoop.hbase.util.SimplePositionedByteRange;
+import org.apache.hadoop.hbase.util.SimplePositionedMutableByteRange;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order-preserving binary encoding of values of {@link NativeType}s and of {@link Tuple}s, using HBase's {@link OrderedBytes} (for internal use only)
+ * <p>
+ * Encoded values compare (as unsigned bytes) the way the values do: e.g. negative numbers sort before positive ones. Every encoded value starts with a header byte that identifies its type, so a tuple is encoded as just the concatenation of its encoded elements.
+ */
+final class OrderedEncoding {
+
+    private OrderedEncoding() {
+    }
+
+    /**
+     * Check whether values of a type can be encoded by this class
+     */
+    static boolean supports(Type type) {
+        return type == Tuple.class || NativeType.of(type) != null;
+    }
+
+    static byte[] encode(Serializable value) throws SerializationException {
+        try {
+            if (value instanceof Tuple) {
+                final List<Serializable> elements = ((Tuple) value).toList();
+                int length = 0;
+                for (Serializable element : elements) {
+                    length += element == null ? 1 : encodedLength(element);
+                }
+                PositionedByteRange range = new SimplePositionedMutableByteRange(length);
+                for (Serializable element : elements) {
+                    encode(range, element);
+                }
+                return range.getBytes();
+            }
+            PositionedByteRange range = new SimplePositionedMutableByteRange(encodedLength(value));
+            encode(range, value);
+            return range.getBytes();
+        } catch (RuntimeException e) {
+            throw new SerializationException(String.format("Could not serialize value of type %s into order-preserving bytes", value.getClass().getName()), e);
+        }
+    }
+
+    static Serializable decode(Type type, byte[] bytes, int offset, int length) throws DeserializationException {
+        try {
+            PositionedByteRange range = new SimplePositionedByteRange(bytes, offset, length);
+            if (type == Tuple.class) {
+                List<Serializable> elements = new ArrayList<>();
+                while (range.getRemaining() > 0) {
+                    elements.add(decodeElement(range));
+                }
+                return Tuple.of(elements.toArray(new Serializable[0]));
+            }
+            return decode(NativeType.of(type), range);
+        } catch (RuntimeException e) {
+            throw new DeserializationException(String.format("Could not deserialize order-preserving bytes into an object of type %s", type), e);
+        }
+    }
+
+    private static int encodedLength(Serializable value) {
+        return dataType(NativeType.of(value.getClass())).encodedLength(toEncodable(value));
+    }
+
+    private static void encode(PositionedByteRange range, Serializable value) {
+        if (value == null) {
+            OrderedBytes.encodeNull(range, Order.ASCENDING);
+            return;
+        }
+        dataType(NativeType.of(value.getClass())).encode(range, toEncodable(value));
+    }
+
+    /**
+     * Decodes a tuple element, identifying its type by its header byte
+     */
+    private static Serializable decodeElement(PositionedByteRange range) {
+        if (OrderedBytes.isNull(range)) {
+            OrderedBytes.skip(range);
+            return null;
+        } else if (OrderedBytes.isText(range)) {
+            return decode(NativeType.STRING, range);
+        } else if (OrderedBytes.isFixedInt32(range)) {
+            return decode(NativeType.INTEGER, range);
+        } else if (OrderedBytes.isFixedInt64(range)) {
+            return decode(NativeType.LONG, range);
+        } else if (OrderedBytes.isFixedInt16(range)) {
+            return decode(NativeType.SHORT, range);
+        } else if (OrderedBytes.isFixedInt8(range)) {
+            return decode(NativeType.BOOLEAN, range);
+        } else if (OrderedBytes.isFixedFloat32(range)) {
+            return decode(NativeType.FLOAT, range);
+        } else if (OrderedBytes.isFixedFloat64(range)) {
+            return decode(NativeType.DOUBLE, range);
+        } else if (OrderedBytes.isNumeric(range)) {
+            return decode(NativeType.BIG_DECIMAL, range);
+        }
+        throw new IllegalArgumentException(String.format("Unrecognized header byte 0x%02x of a tuple element, at offset %d", range.peek(), range.getPosition()));
+    }
+
+    private static Serializable decode(NativeType nativeType, PositionedByteRange range) {
+        Object value = dataType(nativeType).decode(range);
+        switch (nativeType) {
+            case BOOLEAN:
+                return ((Byte) value) != 0;
+            case BIG_DECIMAL:
+                return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+            default:
+                return (Serializable) value;
+        }
+    }
+
+    private static Object toEncodable(Serializable value) {
+        return value instanceof Boolean ? (byte) ((Boolean) value ? 1 : 0) : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataType<Object> dataType(NativeType nativeType) {
+        if (nativeType == null) {
+            throw new IllegalArgumentException("Only values of types String, Integer, Long, Short, Float, Double, BigDecimal and Boolean (and tuples of them) can be serialized into order-preserving bytes");
+        }
+        final DataType<?> dataType;
+        switch (nativeType) {
+            case STRING:
+                dataType = OrderedString.ASCENDING;
+                break;
+            case INTEGER:
+                dataType = OrderedInt32.ASCENDING;
+                break;
+            case LONG:
+                dataType = OrderedInt64.ASCENDING;
+                break;
+            case SHORT:
+                dataType = OrderedInt16.ASCENDING;
+                break;
+            case FLOAT:
+                dataType = OrderedFloat32.ASCENDING;
+                break;
+            case DOUBLE:
+                dataType = OrderedFloat64.ASCENDING;
+                break;
+            case BIG_DECIMAL:
+                dataType = OrderedNumeric.ASCENDING;
+                break;
+            case BOOLEAN:
+                dataType = OrderedInt8.ASCENDING;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported type " + nativeType);
+        }
+        return (DataType<Object>) dataType;
+    }
+}
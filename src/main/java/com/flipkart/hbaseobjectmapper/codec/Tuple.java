@@ -0,0 +1,124 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable tuple of values, for use as a composite row key
+ * <p>
+ * {@link BestSuitCodec} serializes a tuple into an order-preserving binary form (built on HBase's {@link org.apache.hadoop.hbase.util.OrderedBytes OrderedBytes}): tuples sort, as row keys in HBase, the way they compare through {@link #compareTo(Tuple)}, i.e. element by element, with numbers in their numeric order (negative numbers included).
+ * <p>
+ * A tuple serializes into a prefix of any longer tuple that starts with the same elements. So, for a partial-key range scan, serialize the leading elements as a shorter tuple and scan by that prefix, e.g.:
+ * <pre>
+ * dao.recordsByPrefix(dao.toBytes(Tuple.of("IND", 2020)))
+ * </pre>
+ * (note: prefixes match on whole elements, e.g. <code>Tuple.of("IN")</code> doesn't match tuples starting with "IND")
+ * <p>
+ * Elements may be of types {@link String}, {@link Integer}, {@link Long}, {@link Short}, {@link Float}, {@link Double}, {@link BigDecimal} or {@link Boolean}, or <code>null</code> (which sorts first). A {@link BigDecimal} element may be read back with a different scale (e.g. <b>1.50</b> as <b>1.5</b>).
+ */
+public final class Tuple implements Serializable, Comparable<Tuple> {
+    private static final long serialVersionUID = 1L;
+
+    private final Serializable[] elements;
+
+    private transient byte[] encoded;
+
+    private Tuple(Serializable[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Create a tuple of given elements
+     *
+     * @param elements Elements, in order of significance
+     * @return A tuple
+     * @throws IllegalArgumentException If an element is of an unsupported type
+     */
+    public static Tuple of(Serializable... elements) {
+        for (Serializable element : elements) {
+            if (element != null && NativeType.of(element.getClass()) == null) {
+                throw new IllegalArgumentException(String.format("Unsupported type %s of tuple element %s (supported types are String, Integer, Long, Short, Float, Double, BigDecimal and Boolean)", element.getClass().getName(), element));
+            }
+        }
+        return new Tuple(elements.clone());
+    }
+
+    /**
+     * @return Number of elements in this tuple
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Get an element of this tuple
+     *
+     * @param index Index of element (starting at 0)
+     * @param <V>   Type of element (inferred from the call site; a mismatch surfaces as a {@link ClassCastException} there)
+     * @return Element at given index
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Serializable> V get(int index) {
+        return (V) elements[index];
+    }
+
+    /**
+     * @return Elements of this tuple, as an unmodifiable list
+     */
+    public List<Serializable> toList() {
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(elements)));
+    }
+
+    /**
+     * @return Serialized form of this tuple (a copy, which the caller may modify)
+     */
+    byte[] toBytes() {
+        return encoded().clone();
+    }
+
+    private byte[] encoded() {
+        if (encoded == null) {
+            try {
+                encoded = OrderedEncoding.encode(this);
+            } catch (SerializationException e) {
+                throw new IllegalStateException(e); // elements are validated upfront
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Compares tuples the way their serialized forms sort in HBase
+     */
+    @Override
+    public int compareTo(Tuple other) {
+        return Bytes.compareTo(encoded(), other.encoded());
+    }
+
+    /**
+     * Tuples are equal if their serialized forms are (i.e. if they'd be the same row key), consistent with {@link #compareTo(Tuple)}. So, for example, tuples whose {@link BigDecimal} elements differ only in scale are equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(encoded(), ((Tuple) o).encoded());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(encoded());
+    }
+
+    @Override
+    public String toString() {
+        return "Tuple" + Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,39 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * A {@link Codec} specialized for values of one Java type and one set of flags (e.g. values of a field or row keys of an entity class)
+ * <p>
+ * Instances are obtained through {@link Codec#specialize(Type, Map)}, once per field, so that everything that depends only on the type and flags is resolved upfront rather than for every value.
+ *
+ * @see Codec#specialize(Type, Map)
+ */
+public interface ValueCodec {
+    /**
+     * Serializes object to a <code>byte[]</code>
+     *
+     * @param object Object to be serialized
+     * @return byte array - this would be used 'as is' in setting the column value in HBase row
+     * @throws SerializationException If serialization fails
+     * @see Codec#serialize(Serializable, Map)
+     */
+    byte[] serialize(Serializable object) throws SerializationException;
+
+    /**
+     * Deserialize a slice of a <code>byte[]</code> into an object
+     *
+     * @param bytes  byte array that contains the bytes to be deserialized
+     * @param offset offset of the bytes to be deserialized
+     * @param length number of bytes to be deserialized
+     * @return The object
+     * @throws DeserializationException If deserialization fails
+     * @see Codec#deserialize(byte[], int, int, Type, Map)
+     */
+    Serializable deserialize(byte[] bytes, int offset, int length) throws DeserializationException;
+}
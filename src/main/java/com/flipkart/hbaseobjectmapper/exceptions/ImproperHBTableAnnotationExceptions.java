@@ -31,6 +31,12 @@ public class ImproperHBTableAnnotationExceptions {
 
     }
 
+    public static class InvalidValueForSaltBucketsOnHBTableAnnotationException extends IllegalArgumentException {
+        public InvalidValueForSaltBucketsOnHBTableAnnotationException(String message) {
+            super(message);
+        }
+    }
+
     public static class DuplicateColumnFamilyNamesOnHBTableAnnotationException extends IllegalArgumentException {
         public DuplicateColumnFamilyNamesOnHBTableAnnotationException(String message) {
             super(message);
@@ -0,0 +1,21 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link HBObjectMapper} that counts how many times entity classes get validated. To be used in test cases only.
+ */
+public class HBObjectMapperTC extends HBObjectMapper {
+    private final AtomicInteger numValidations = new AtomicInteger();
+
+    @Override
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> void validateHBClass0(Class<T> clazz) {
+        numValidations.incrementAndGet();
+        super.validateHBClass0(clazz);
+    }
+
+    public int getNumValidations() {
+        return numValidations.get();
+    }
+}
@@ -1,15 +1,21 @@
 package com.flipkart.hbaseobjectmapper.testcases;
 
 import com.flipkart.hbaseobjectmapper.*;
+import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
 import com.flipkart.hbaseobjectmapper.exceptions.*;
 import com.flipkart.hbaseobjectmapper.testcases.entities.*;
+import org.apache.hadoop.hbase.*;
+import org.apache.hadoop.hbase.client.AbstractClientScanner;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.Triple;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.util.*;
 
 import static com.flipkart.hbaseobjectmapper.testcases.TestObjects.validObjects;
@@ -38,6 +44,7 @@ public class TestHBObjectMapper {
             triple(new ClassesWithInvalidHBTableAnnotation.EmptyTableName(), "Class with empty table name in its " + HBTable.class.getSimpleName() + " annotation", ImproperHBTableAnnotationExceptions.EmptyTableNameOnHBTableAnnotationException.class),
             triple(new ClassesWithInvalidHBTableAnnotation.EmptyColumnFamily(), "Class with empty column family name in its " + HBTable.class.getSimpleName() + " annotation", ImproperHBTableAnnotationExceptions.EmptyColumnFamilyOnHBTableAnnotationException.class),
             triple(new ClassesWithInvalidHBTableAnnotation.DuplicateColumnFamilies(), "Class with duplicate column families in its " + HBTable.class.getSimpleName() + " annotation", ImproperHBTableAnnotationExceptions.DuplicateColumnFamilyNamesOnHBTableAnnotationException.class),
+            triple(new ClassesWithInvalidHBTableAnnotation.InvalidSaltBuckets(), "Class with an invalid number of salt buckets in its " + HBTable.class.getSimpleName() + " annotation", ImproperHBTableAnnotationExceptions.InvalidValueForSaltBucketsOnHBTableAnnotationException.class),
             triple(new ClassesWithInvalidHBTableAnnotation.MissingHBTableAnnotation(), "Class with no HBTable annotation", ImproperHBTableAnnotationExceptions.MissingHBTableAnnotationException.class)
     );
 
@@ -348,4 +355,138 @@ public class TestHBObjectMapper {
                     versionedCrawl, unversionedCrawl));
         }
     }
+
+    @Test
+    public void testValidationIsMemoized() throws IOException {
+        final int numRows = 100_000;
+        HBObjectMapperTC countingMapper = new HBObjectMapperTC();
+        Citizen citizen = TestObjects.validCitizenObjects.get(0);
+        Result result = countingMapper.writeValueAsResult(citizen);
+        int numRecords = 0;
+        try (Records<Citizen> records = new ReactiveRecords<>(new RepeatingResultScanner(result, numRows), countingMapper, Citizen.class)) {
+            for (Citizen record : records) {
+                assertNotNull(record);
+                numRecords++;
+            }
+        }
+        assertEquals(numRows, numRecords, "Scan returned unexpected number of records");
+        assertEquals(citizen, countingMapper.readValue(result, Citizen.class));
+        assertEquals(NUM_ITERATIONS, countingMapper.writeValueAsPut(Collections.nCopies(NUM_ITERATIONS, citizen)).size());
+        assertEquals(NUM_ITERATIONS, countingMapper.writeValueAsResult(Collections.nCopies(NUM_ITERATIONS, citizen)).size());
+        assertEquals(1, countingMapper.getNumValidations(), "Entity class was validated more than once");
+    }
+
+    @Test
+    public void testFieldAccessStrategies() {
+        for (FieldAccessStrategy strategy : FieldAccessStrategy.values()) {
+            HBObjectMapper mapper = new HBObjectMapper(new BestSuitCodec(), strategy);
+            for (HBRecord record : validObjects) {
+                assertEquals(record, mapper.readValue(mapper.writeValueAsResult(record), record.getClass()), String.format("Object not equal after Result round-trip with %s field access strategy", strategy));
+                assertEquals(record, mapper.readValue(mapper.writeValueAsPut(record), record.getClass()), String.format("Object not equal after Put round-trip with %s field access strategy", strategy));
+                assertEquals(hbMapper.writeValueAsResult(record).toString(), mapper.writeValueAsResult(record).toString(), String.format("Result differs with %s field access strategy", strategy));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new HBObjectMapper(new BestSuitCodec(), null), "Null field access strategy was accepted");
+    }
+
+    @Test
+    public void testReadValueFromCells() {
+        Random random = new Random(42);
+        for (HBRecord record : validObjects) {
+            Result result = hbMapper.writeValueAsResult(record);
+            List<Cell> cells = new ArrayList<>(Arrays.asList(result.rawCells()));
+            byte[] row = result.getRow();
+            for (Cell cell : result.rawCells()) {
+                cells.add(cell(row, CellUtil.cloneFamily(cell), Bytes.toBytes("unmapped"), HConstants.LATEST_TIMESTAMP, Bytes.toBytes("junk")));
+            }
+            cells.add(cell(row, Bytes.toBytes("unmapped"), Bytes.toBytes("unmapped"), HConstants.LATEST_TIMESTAMP, Bytes.toBytes("junk")));
+            cells.sort(CellComparator.getInstance());
+            assertEquals(record, hbMapper.readValue(Result.create(cells), record.getClass()), "Data mismatch after deserialization from cells in HBase order");
+            Collections.shuffle(cells, random);
+            assertEquals(record, hbMapper.readValue(Result.create(cells), record.getClass()), "Data mismatch after deserialization from cells in random order");
+        }
+        Citizen citizen = TestObjects.validCitizenObjects.get(0);
+        List<Cell> cells = new ArrayList<>(Arrays.asList(hbMapper.writeValueAsResult(citizen).rawCells()));
+        cells.add(cell(Bytes.toBytes(citizen.composeRowKey()), Bytes.toBytes("main"), Bytes.toBytes("name"), 1L, Bytes.toBytes("Older name")));
+        for (List<Cell> cellsInSomeOrder : Arrays.asList(cells, sorted(cells))) {
+            assertEquals(citizen.getName(), hbMapper.readValue(Result.create(cellsInSomeOrder), Citizen.class).getName(), "Latest version of a single-versioned column wasn't picked");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadValueLazily() throws IllegalAccessException {
+        for (HBRecord record : validObjects) {
+            Result result = hbMapper.writeValueAsResult(record);
+            HBRecord expected = hbMapper.readValue(result, record.getClass());
+            LazyRecord lazyRecord = hbMapper.readValueLazily(result, record.getClass());
+            assertEquals(record.composeRowKey(), lazyRecord.getRowKey(), "Row key mismatch in lazily deserialized record");
+            Map<String, Field> fields = hbMapper.getHBColumnFields(record.getClass());
+            for (Field field : fields.values()) {
+                field.setAccessible(true);
+                assertEquals(field.get(expected), lazyRecord.get(field.getName()), String.format("Value of field '%s' mismatch in lazily deserialized record", field.getName()));
+                assertEquals(field.get(expected), field.get(lazyRecord.toRecord(Collections.singleton(field.getName()))), String.format("Value of field '%s' mismatch in partially materialized record", field.getName()));
+            }
+            assertEquals(expected, lazyRecord.toRecord(), "Data mismatch after full materialization of lazily deserialized record");
+            assertThrows(IllegalArgumentException.class, () -> lazyRecord.get("nonExistentField"));
+        }
+        assertNull(hbMapper.readValueLazily(Result.EMPTY_RESULT, Citizen.class));
+    }
+
+    @Test
+    public void testSaltedRowKeys() {
+        Set<Byte> salts = new HashSet<>();
+        for (long timestamp = 1_600_000_000_000L; timestamp < 1_600_000_000_100L; timestamp++) {
+            Event event = new Event(timestamp, "event" + timestamp);
+            Put put = hbMapper.writeValueAsPut(event);
+            byte[] unsaltedRowKey = Bytes.toBytes(timestamp);
+            assertEquals(unsaltedRowKey.length + 1, put.getRow().length, "Salted row key should be one byte longer than unsalted row key");
+            assertArrayEquals(unsaltedRowKey, Arrays.copyOfRange(put.getRow(), 1, put.getRow().length), "Salted row key should end with unsalted row key");
+            assertArrayEquals(put.getRow(), hbMapper.writeValueAsPut(event).getRow(), "Salt should be deterministic");
+            assertEquals(event, hbMapper.readValue(put, Event.class), "Data mismatch after serialization and deserialization of record with salted row key");
+            salts.add(put.getRow()[0]);
+        }
+        assertEquals(8, salts.size(), "Sequential row keys should've been spread across all salt buckets");
+    }
+
+    private static Cell cell(byte[] row, byte[] family, byte[] column, long timestamp, byte[] value) {
+        return CellBuilderFactory.create(CellBuilderType.DEEP_COPY).setType(Cell.Type.Put).setRow(row).setFamily(family).setQualifier(column).setTimestamp(timestamp).setValue(value).build();
+    }
+
+    private static List<Cell> sorted(List<Cell> cells) {
+        List<Cell> sortedCells = new ArrayList<>(cells);
+        sortedCells.sort(CellComparator.getInstance());
+        return sortedCells;
+    }
+
+    /**
+     * A scanner that returns the same {@link Result} a given number of times
+     */
+    private static class RepeatingResultScanner extends AbstractClientScanner {
+        private final Result result;
+        private int remaining;
+
+        RepeatingResultScanner(Result result, int count) {
+            this.result = result;
+            this.remaining = count;
+        }
+
+        @Override
+        public Result next() {
+            if (remaining <= 0) {
+                return null;
+            }
+            remaining--;
+            return result;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean renewLease() {
+            return true;
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package com.flipkart.hbaseobjectmapper.testcases;
 
+import com.flipkart.hbaseobjectmapper.BufferedPersister;
+import com.flipkart.hbaseobjectmapper.DAOOptions;
+import com.flipkart.hbaseobjectmapper.GuavaRecordCache;
 import com.flipkart.hbaseobjectmapper.HBAdmin;
+import com.flipkart.hbaseobjectmapper.NegativeLookupCache;
 import com.flipkart.hbaseobjectmapper.Records;
 import com.flipkart.hbaseobjectmapper.WrappedHBColumnTC;
 import com.flipkart.hbaseobjectmapper.testcases.daos.*;
@@ -8,10 +12,20 @@ import com.flipkart.hbaseobjectmapper.testcases.entities.*;
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.InMemoryHBaseCluster;
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.RealHBaseCluster;
 
+import com.google.common.base.Ticker;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -20,11 +34,31 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.flipkart.hbaseobjectmapper.testcases.util.LiteralsUtil.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 class TestsAbstractHBDAO extends BaseHBDAOTests {
     private static Connection connection;
@@ -389,15 +423,499 @@ class TestsAbstractHBDAO extends BaseHBDAOTests {
         try {
             createTables(Employee.class);
             EmployeeDAO employeeDAO = new EmployeeDAO(connection);
-            Employee ePre = new Employee(100L, "E1", (short) 3, System.currentTimeMillis());
+            final long createdAt = System.currentTimeMillis();
+            Employee ePre = new Employee(100L, "E1", (short) 3, createdAt);
             Long rowKey = employeeDAO.persist(ePre);
             Employee ePost = employeeDAO.get(rowKey);
             assertEquals(ePre, ePost, "Object got corrupted after persist and get");
+            assertEquals(LocalDateTime.ofEpochSecond(createdAt, 0, ZoneOffset.UTC), employeeDAO.fetchFieldValue(rowKey, "createdAt"), "Value of field inherited from a mapped super class couldn't be fetched");
         } finally {
             deleteTables(Employee.class);
         }
     }
 
+    @Test
+    public void testCloseReleasesPooledTables() throws IOException {
+        try {
+            createTables(Employee.class);
+            Employee ePre = new Employee(101L, "E2", (short) 4, System.currentTimeMillis());
+            AtomicInteger tablesAcquired = new AtomicInteger();
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection) {
+                @Override
+                public Table getHBaseTable() throws IOException {
+                    tablesAcquired.incrementAndGet();
+                    return super.getHBaseTable();
+                }
+            };
+            Long rowKey = employeeDAO.persist(ePre);
+            assertEquals(ePre, employeeDAO.get(rowKey), "Object got corrupted after persist and get");
+            assertEquals(1, tablesAcquired.get(), "Table handle wasn't acquired through getHBaseTable() or wasn't pooled");
+            employeeDAO.close();
+            assertFalse(connection.isClosed(), "Closing a DAO shouldn't close the connection it was created with");
+            assertEquals(ePre, employeeDAO.get(rowKey), "DAO isn't usable after it's closed");
+            assertEquals(2, tablesAcquired.get(), "Closed DAO didn't acquire a table handle per call");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testBufferedPersister() throws IOException {
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Long> failedRowKeys = Collections.synchronizedList(new ArrayList<>());
+            Employee e1 = new Employee(201L, "E1", (short) 1, System.currentTimeMillis()),
+                    e2 = new Employee(202L, "E2", (short) 2, System.currentTimeMillis()),
+                    e3 = new Employee(203L, "E3", (short) 3, System.currentTimeMillis());
+            try (BufferedPersister<Long, Employee> persister = employeeDAO.newBufferedPersister(1024 * 1024, 0, (rowKey, cause) -> failedRowKeys.add(rowKey))) {
+                assertEquals(Long.valueOf(201L), persister.persist(e1));
+                assertEquals(Arrays.asList(202L, 203L), persister.persist(Arrays.asList(e2, e3)));
+                persister.flush();
+                assertEquals(e1, employeeDAO.get(201L), "Buffered write wasn't persisted on flush");
+                persister.delete(e3);
+            }
+            assertEquals(e2, employeeDAO.get(202L), "Buffered write wasn't persisted");
+            assertNull(employeeDAO.get(203L), "Buffered delete wasn't applied on close");
+            assertTrue(failedRowKeys.isEmpty(), "Writes failed for row keys: " + failedRowKeys);
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.newBufferedPersister(0, 0, (rowKey, cause) -> {
+            }));
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testParallelRecords() throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Employee> employees = new ArrayList<>();
+            for (long i = 1; i <= 50; i++) {
+                employees.add(new Employee(i, "E" + i, (short) i, System.currentTimeMillis()));
+            }
+            employeeDAO.persist(employees);
+            try (Admin admin = connection.getAdmin()) {
+                admin.split(TableName.valueOf(employeeDAO.getTableName()), Bytes.toBytes(25L));
+            }
+            Scan scan = new Scan().withStartRow(Bytes.toBytes(5L)).withStopRow(Bytes.toBytes(45L));
+            List<Employee> expected = employeeDAO.get(scan);
+            try (Records<Employee> records = employeeDAO.parallelRecords(scan, executor, 2, true)) {
+                assertEquals(expected, Lists.newArrayList(records), "Ordered parallel scan returned different records than a plain scan");
+            }
+            try (Records<Employee> records = employeeDAO.parallelRecords(scan, executor, 2, false)) {
+                assertEquals(new HashSet<>(expected), Sets.newHashSet(records), "Unordered parallel scan returned different records than a plain scan");
+            }
+            try (Stream<Employee> stream = employeeDAO.parallelStream(new Scan(), executor, 2, true)) {
+                assertEquals(employees, stream.collect(Collectors.toList()), "Parallel stream returned different records than were persisted");
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testRecordsStream() throws IOException {
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Employee> employees = new ArrayList<>();
+            for (long i = 1; i <= 50; i++) {
+                employees.add(new Employee(i, "E" + i, (short) i, System.currentTimeMillis()));
+            }
+            employeeDAO.persist(employees);
+            Scan scan = new Scan().withStartRow(Bytes.toBytes(5L)).withStopRow(Bytes.toBytes(45L));
+            List<Employee> expected = employeeDAO.get(scan);
+            try (Stream<Employee> stream = employeeDAO.records(scan).stream()) {
+                assertEquals(expected, stream.collect(Collectors.toList()), "Stream of records returned different records than a plain scan");
+            }
+            try (Stream<Employee> stream = employeeDAO.records(scan).parallelStream()) {
+                assertEquals(expected, stream.collect(Collectors.toList()), "Parallel stream of records returned different records (or order) than a plain scan");
+            }
+            try (Stream<Employee> stream = employeeDAO.records(scan).parallelStream()) {
+                assertEquals(expected.stream().mapToLong(Employee::getEmpid).sum(), stream.mapToLong(Employee::getEmpid).sum());
+            }
+            for (byte[] stopRowSuffix : new byte[][]{new byte[1], new byte[2]}) { // no row key lies between bounds, once the start row is padded with zeros
+                Scan adjacentBoundsScan = new Scan().withStartRow(Bytes.toBytes(5L)).withStopRow(Bytes.add(Bytes.toBytes(5L), stopRowSuffix));
+                try (Stream<Employee> stream = employeeDAO.records(adjacentBoundsScan).parallelStream()) {
+                    assertEquals(Collections.singletonList(employees.get(4)), stream.collect(Collectors.toList()), "Parallel stream of a scan with adjacent bounds returned wrong records");
+                }
+            }
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testPrefetchingRecords() throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Employee> employees = new ArrayList<>();
+            for (long i = 1; i <= 250; i++) {
+                employees.add(new Employee(i, "E" + i, (short) i, System.currentTimeMillis()));
+            }
+            employeeDAO.persist(employees);
+            Scan scan = new Scan().setCaching(20);
+            try (Records<Employee> records = employeeDAO.prefetchingRecords(scan, executor, 2)) {
+                assertEquals(employees, Lists.newArrayList(records), "Prefetching scan returned different records (or order) than were persisted");
+            }
+            try (Records<Employee> records = employeeDAO.prefetchingRecords(scan, executor, 1)) {
+                assertEquals(employees.get(0), records.iterator().next(), "Prefetching scan returned wrong first record");
+            }
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.prefetchingRecords(scan, executor, 0));
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testFieldProjection() throws IOException {
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            Employee e1 = new Employee(301L, "E1", (short) 1, System.currentTimeMillis()),
+                    e2 = new Employee(302L, "E2", (short) 2, System.currentTimeMillis());
+            employeeDAO.persist(Arrays.asList(e1, e2));
+            final Set<String> fields = Collections.singleton("empName");
+            Employee projected = employeeDAO.get(301L, fields);
+            assertEquals(Long.valueOf(301L), projected.getEmpid());
+            assertEquals("E1", projected.getEmpName(), "Projected field wasn't fetched");
+            assertNull(projected.getReporteeCount(), "Field not in projection was fetched");
+            assertEquals(Arrays.asList("E1", "E2"), employeeDAO.get(Arrays.asList(301L, 302L), fields).stream().map(Employee::getEmpName).collect(Collectors.toList()));
+            List<Employee> scanned = employeeDAO.get(new Scan(), fields);
+            assertEquals(2, scanned.size());
+            assertTrue(scanned.stream().allMatch(e -> e.getEmpName() != null && e.getReporteeCount() == null), "Scan with projection fetched fields not in projection");
+            try (Records<Employee> records = employeeDAO.records(new Scan(), Collections.singleton("reporteeCount"))) {
+                for (Employee employee : records) {
+                    assertNull(employee.getEmpName(), "Field not in projection was fetched");
+                    assertNotNull(employee.getReporteeCount(), "Projected field wasn't fetched");
+                }
+            }
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.get(301L, Collections.singleton("nonExistentField")));
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.get(301L, Collections.emptySet()));
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testSaltedRowKeys() throws IOException {
+        try {
+            createTables(Event.class);
+            EventDAO eventDAO = new EventDAO(connection);
+            final long start = 1_600_000_000_000L;
+            List<Event> events = new ArrayList<>();
+            for (long timestamp = start + 99; timestamp >= start; timestamp--) {
+                events.add(new Event(timestamp, "event" + timestamp));
+            }
+            eventDAO.persist(events);
+            events.sort(Comparator.comparing(Event::getTimestamp));
+            assertEquals(events.get(10), eventDAO.get(start + 10), "Record with salted row key couldn't be fetched by row key");
+            assertNotEquals(eventDAO.toBytes(start + 10).length, eventDAO.toUnsaltedBytes(start + 10).length, "Row key wasn't salted");
+            assertEquals(events.subList(10, 20), eventDAO.get(start + 10, start + 20), "Range of records with salted row keys wasn't fetched in order of row keys");
+            assertEquals(events.subList(10, 21), eventDAO.get(start + 10, true, start + 20, true, 1), "Range of records with salted row keys wasn't fetched in order of row keys (end inclusive)");
+            assertEquals(events, eventDAO.get(new Scan()), "Records with salted row keys weren't scanned in order of row keys");
+            assertEquals(Lists.reverse(events), eventDAO.get(new Scan().setReversed(true)), "Records with salted row keys weren't scanned in reverse order of row keys");
+            assertEquals(events.subList(0, 5), eventDAO.get(new Scan().setLimit(5)), "Limit wasn't honoured across salt buckets");
+            try (Records<Event> records = eventDAO.records(start + 50, true, start + 60, false, 1, 2)) {
+                assertEquals(events.subList(50, 60), Lists.newArrayList(records), "Range of records with salted row keys wasn't iterated in order of row keys");
+            }
+            assertEquals(events.subList(50, 60).stream().map(Event::getTimestamp).collect(Collectors.toList()), new ArrayList<>(eventDAO.fetchFieldValues(start + 50, start + 60, "name").keySet()));
+            assertEquals(Collections.singletonList(events.get(42)), eventDAO.getByPrefix(eventDAO.toUnsaltedBytes(start + 42)), "Prefix scan on salted row keys failed");
+            assertThrows(UnsupportedOperationException.class, () -> eventDAO.parallelRecords(new Scan(), null, 2, true));
+        } finally {
+            deleteTables(Event.class);
+        }
+    }
+
+    @Test
+    public void testRecordCache() throws IOException {
+        try {
+            createTables(Employee.class);
+            GuavaRecordCache<Long, Employee> recordCache = GuavaRecordCache.of(100, 1, TimeUnit.MINUTES);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection, DAOOptions.<Long, Employee>builder().recordCache(recordCache).build());
+            Employee e1 = new Employee(301L, "E1", (short) 1, System.currentTimeMillis()),
+                    e2 = new Employee(302L, "E2", (short) 2, System.currentTimeMillis());
+            employeeDAO.persist(Arrays.asList(e1, e2));
+            assertEquals(e1, employeeDAO.get(301L));
+            assertEquals(e1, employeeDAO.get(301L));
+            assertEquals(1, recordCache.stats().hitCount(), "Record wasn't served from cache");
+            assertEquals(Arrays.asList(e1, e2, null), employeeDAO.get(Arrays.asList(301L, 302L, 303L)), "Batch get through cache returned wrong records");
+            assertEquals(2, recordCache.stats().hitCount(), "Cached record wasn't served in batch get");
+            assertEquals(2, recordCache.size(), "Records fetched in batch get weren't cached (or a missing row was)");
+            Employee e1Updated = new Employee(301L, "E1 updated", (short) 1, System.currentTimeMillis());
+            employeeDAO.persist(e1Updated);
+            assertEquals(e1Updated, employeeDAO.get(301L), "Cached record wasn't invalidated on persist");
+            employeeDAO.append(302L, "empName", "X");
+            assertEquals("E2X", employeeDAO.get(302L).getEmpName(), "Cached record wasn't invalidated on append");
+            employeeDAO.delete(302L);
+            assertNull(employeeDAO.get(302L), "Cached record wasn't invalidated on delete");
+            try (BufferedPersister<Long, Employee> persister = employeeDAO.newBufferedPersister(1024 * 1024, 0, (rowKey, cause) -> {
+            })) {
+                persister.persist(e1);
+            }
+            assertEquals(e1, employeeDAO.get(301L), "Cached record wasn't invalidated on buffered persist");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testRecordCacheWithRacingWrites() throws IOException {
+        try {
+            createTables(Employee.class);
+            Employee e1 = new Employee(311L, "E1", (short) 1, System.currentTimeMillis()),
+                    e1Updated = new Employee(311L, "E1 updated", (short) 1, System.currentTimeMillis());
+            AtomicReference<EmployeeDAO> employeeDAORef = new AtomicReference<>();
+            AtomicBoolean writeAfterGet = new AtomicBoolean();
+            Connection racingConnection = interceptGets(connection, get -> {
+                if (writeAfterGet.compareAndSet(true, false)) { // write the row after the get has read it, but before the record read is cached
+                    try {
+                        employeeDAORef.get().persist(e1Updated);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            GuavaRecordCache<Long, Employee> recordCache = GuavaRecordCache.of(100, 1, TimeUnit.MINUTES);
+            EmployeeDAO employeeDAO = new EmployeeDAO(racingConnection, DAOOptions.<Long, Employee>builder().recordCache(recordCache).build());
+            employeeDAORef.set(employeeDAO);
+            employeeDAO.persist(e1);
+            writeAfterGet.set(true);
+            assertEquals(e1, employeeDAO.get(311L), "Get that read the row before it was written should return the record as read");
+            assertEquals(0, recordCache.size(), "Record read before a racing write was cached");
+            assertEquals(e1Updated, employeeDAO.get(311L), "Record read before a racing write was served from cache");
+            assertEquals(e1Updated, employeeDAO.get(311L));
+            assertEquals(1, recordCache.stats().hitCount(), "Record read after the write wasn't cached");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testNegativeLookupCache() throws IOException {
+        try {
+            createTables(Employee.class);
+            AtomicLong nanos = new AtomicLong();
+            Ticker ticker = new Ticker() {
+                @Override
+                public long read() {
+                    return nanos.get();
+                }
+            };
+            NegativeLookupCache negativeLookupCache = new NegativeLookupCache(1000, 0.001, 10, TimeUnit.SECONDS, 0, ticker);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection, DAOOptions.<Long, Employee>builder().negativeLookupCache(negativeLookupCache).build());
+            assertNull(employeeDAO.get(401L));
+            assertNull(employeeDAO.get(401L));
+            assertFalse(employeeDAO.exists(401L));
+            assertEquals(2, negativeLookupCache.hitCount(), "Lookups of a missing row weren't answered from negative lookup cache");
+            Employee e401 = new Employee(401L, "E401", (short) 1, System.currentTimeMillis()),
+                    e402 = new Employee(402L, "E402", (short) 2, System.currentTimeMillis());
+            employeeDAO.persist(e401);
+            assertEquals(e401, employeeDAO.get(401L), "Persisted row wasn't cleared from negative lookup cache");
+            employeeDAO.delete(401L);
+            employeeDAO.persist(e402);
+            assertEquals(Arrays.asList(null, e402), employeeDAO.get(Arrays.asList(401L, 402L)), "Batch get through negative lookup cache returned wrong records");
+            assertArrayEquals(new boolean[]{false, true}, employeeDAO.exists(new Long[]{401L, 402L}));
+            assertEquals(4, negativeLookupCache.hitCount(), "Deleted row wasn't added to negative lookup cache");
+            new EmployeeDAO(connection).persist(e401);
+            assertNull(employeeDAO.get(401L), "Row written by another DAO should remain reported as absent until forgotten");
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+            assertEquals(e401, employeeDAO.get(401L), "Row key wasn't forgotten by negative lookup cache after TTL");
+            NegativeLookupCache verifyingCache = new NegativeLookupCache(1000, 0.001, 10, TimeUnit.SECONDS, 1, ticker);
+            EmployeeDAO verifyingDAO = new EmployeeDAO(connection, DAOOptions.<Long, Employee>builder().negativeLookupCache(verifyingCache).build());
+            assertNull(verifyingDAO.get(403L));
+            new EmployeeDAO(connection).persist(new Employee(403L, "E403", (short) 3, System.currentTimeMillis()));
+            assertNotNull(verifyingDAO.get(403L), "Lookup sampled for verification wasn't made against HBase");
+            assertEquals(1, verifyingCache.verifiedCount());
+            assertEquals(1, verifyingCache.falsePositiveCount(), "Row reported as absent, but found on verification, wasn't counted as a false positive");
+            assertEquals(1.0, verifyingCache.falsePositiveRate());
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testNegativeLookupCacheWithRacingWrites() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            createTables(Employee.class);
+            CountDownLatch getFinished = new CountDownLatch(1), persisted = new CountDownLatch(1);
+            AtomicBoolean holdGet = new AtomicBoolean(true);
+            Connection racingConnection = interceptGets(connection, get -> {
+                if (holdGet.compareAndSet(true, false)) { // hold the first get, which finds the row missing, until the row is written
+                    getFinished.countDown();
+                    Uninterruptibles.awaitUninterruptibly(persisted);
+                }
+            });
+            NegativeLookupCache negativeLookupCache = NegativeLookupCache.of(1000, 0.001, 1, TimeUnit.MINUTES);
+            EmployeeDAO employeeDAO = new EmployeeDAO(racingConnection, DAOOptions.<Long, Employee>builder().negativeLookupCache(negativeLookupCache).build());
+            Employee e601 = new Employee(601L, "E601", (short) 1, System.currentTimeMillis()),
+                    e602 = new Employee(602L, "E602", (short) 2, System.currentTimeMillis());
+            Future<Employee> racingGet = executor.submit(() -> employeeDAO.get(601L));
+            getFinished.await();
+            employeeDAO.persist(e601);
+            persisted.countDown();
+            assertNull(racingGet.get(), "Get that read the row before it was written should find it missing");
+            assertEquals(e601, employeeDAO.get(601L), "Get that raced with a write marked the row absent after the write");
+            try (BufferedPersister<Long, Employee> persister = employeeDAO.newBufferedPersister(1024 * 1024, 0, (rowKey, cause) -> {
+            })) {
+                persister.persist(e602);
+                assertNull(employeeDAO.get(602L), "Buffered write was sent to HBase before flush");
+                persister.flush();
+                assertEquals(e602, employeeDAO.get(602L), "Get of a row with a buffered write marked it absent until after the flush");
+                assertEquals(0, negativeLookupCache.hitCount(), "Rows written to were reported absent by negative lookup cache");
+                persister.delete(602L);
+            }
+            assertNull(employeeDAO.get(602L));
+            assertEquals(1, negativeLookupCache.hitCount(), "Buffered delete wasn't added to negative lookup cache");
+            assertNull(employeeDAO.get(603L));
+            assertNull(employeeDAO.get(603L));
+            assertEquals(2, negativeLookupCache.hitCount(), "Row that wasn't written to wasn't marked absent");
+        } finally {
+            executor.shutdown();
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testNegativeLookupCacheWithPeriodicFlushes() throws Exception {
+        try {
+            createTables(Employee.class);
+            NegativeLookupCache negativeLookupCache = NegativeLookupCache.of(1000, 0.001, 1, TimeUnit.MINUTES);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection, DAOOptions.<Long, Employee>builder().negativeLookupCache(negativeLookupCache).build()),
+                    otherDAO = new EmployeeDAO(connection);
+            try (BufferedPersister<Long, Employee> persister = employeeDAO.newBufferedPersister(1024 * 1024, 100, (rowKey, cause) -> {
+            })) {
+                persister.persist(new Employee(901L, "E901", (short) 1, System.currentTimeMillis()));
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (otherDAO.get(901L) == null) { // only the periodic flush can send the write
+                    assertTrue(System.currentTimeMillis() < deadline, "Buffered write wasn't flushed periodically");
+                    Thread.sleep(50);
+                }
+                otherDAO.delete(901L);
+                while (negativeLookupCache.hitCount() == 0) { // once the flushed write is released, a lookup that finds the row missing marks it absent
+                    assertTrue(System.currentTimeMillis() < deadline, "Row flushed periodically was never marked absent again, after it was deleted");
+                    assertNull(employeeDAO.get(901L));
+                    assertNull(employeeDAO.get(901L));
+                    Thread.sleep(50);
+                }
+            }
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testCoalescedGets() throws Exception {
+        final int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            createTables(Employee.class);
+            AtomicInteger hbaseGets = new AtomicInteger();
+            CountDownLatch firstGetStarted = new CountDownLatch(1), releaseFirstGet = new CountDownLatch(1);
+            Connection countingConnection = interceptGets(connection, get -> {
+                if (hbaseGets.incrementAndGet() == 1) { // hold the first get until all other callers have joined it
+                    firstGetStarted.countDown();
+                    Uninterruptibles.awaitUninterruptibly(releaseFirstGet);
+                }
+            });
+            EmployeeDAO employeeDAO = new EmployeeDAO(countingConnection, DAOOptions.<Long, Employee>builder().coalesceGets(true).build());
+            Employee e1 = new Employee(501L, "E1", (short) 1, System.currentTimeMillis());
+            employeeDAO.persist(e1);
+            List<Future<Employee>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> employeeDAO.get(501L)));
+            firstGetStarted.await();
+            List<Thread> joiningCallers = new CopyOnWriteArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    joiningCallers.add(Thread.currentThread());
+                    return employeeDAO.get(501L);
+                }));
+            }
+            awaitWaiting(joiningCallers, callers - 1);
+            releaseFirstGet.countDown();
+            for (Future<Employee> future : futures) {
+                assertEquals(e1, future.get(), "Concurrent get of the same row returned wrong record");
+            }
+            assertEquals(1, hbaseGets.get(), "Concurrent gets of the same row weren't coalesced into one HBase get");
+            assertEquals("E1", employeeDAO.get(501L, Collections.singleton("empName")).getEmpName());
+            Employee e1Updated = new Employee(501L, "E1 updated", (short) 1, System.currentTimeMillis());
+            employeeDAO.persist(e1Updated);
+            assertEquals(e1Updated, employeeDAO.get(501L), "Get after a write didn't see the write");
+            assertNull(employeeDAO.get(502L));
+            assertEquals(4, hbaseGets.get(), "Gets that weren't concurrent were coalesced");
+        } finally {
+            executor.shutdown();
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testBoundedBatches() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Employee> employees = new ArrayList<>();
+            for (long empid = 700; empid < 723; empid++) {
+                employees.add(new Employee(empid, "E" + empid, (short) 1, System.currentTimeMillis()));
+            }
+            List<Long> rowKeys = employees.stream().map(Employee::getEmpid).collect(Collectors.toList());
+            assertEquals(employees.size(), employeeDAO.persist(employees.iterator(), 5, executor, 2), "Bounded batches of puts persisted wrong number of records");
+            List<Long> rowKeysToFetch = new ArrayList<>(rowKeys);
+            rowKeysToFetch.add(5, 699L);
+            try (Records<Employee> records = employeeDAO.records(rowKeysToFetch.iterator(), 4, executor, 3)) {
+                assertEquals(employees, Lists.newArrayList(records), "Bounded batches of gets returned wrong records");
+            }
+            assertEquals(10, employeeDAO.delete(rowKeys.subList(0, 10).iterator(), 3, executor, 2));
+            try (Records<Employee> records = employeeDAO.records(rowKeys.iterator(), 7, executor, 1)) {
+                assertEquals(employees.subList(10, employees.size()), records.stream().collect(Collectors.toList()), "Bounded batches of deletes weren't applied");
+            }
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.records(rowKeys.iterator(), 0, executor, 1));
+        } finally {
+            executor.shutdown();
+            deleteTables(Employee.class);
+        }
+    }
+
+    /**
+     * Waits until given number of threads are registered and all of them are waiting (e.g. for a get in flight, that they've joined)
+     */
+    private static void awaitWaiting(List<Thread> threads, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (threads.size() < count || threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertTrue(System.currentTimeMillis() < deadline, "Threads didn't get to wait");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Wraps a connection, so that every single-row get on its tables calls a hook after the get has been served by HBase (e.g. to hold a get while a write races with it)
+     */
+    private static Connection interceptGets(Connection connection, Consumer<Get> afterGet) throws IOException {
+        Connection interceptingConnection = mock(Connection.class, delegatesTo(connection));
+        doAnswer(invocation -> {
+            Table table = connection.getTable(invocation.getArgument(0));
+            Table interceptingTable = mock(Table.class, delegatesTo(table));
+            doAnswer(getInvocation -> {
+                Get get = getInvocation.getArgument(0);
+                Result result = table.get(get);
+                afterGet.accept(get);
+                return result;
+            }).when(interceptingTable).get(any(Get.class));
+            return interceptingTable;
+        }).when(interceptingConnection).getTable(any(TableName.class));
+        return interceptingConnection;
+    }
+
     @AfterAll
     public static void tearDown() throws Exception {
         connection.close();
@@ -1,6 +1,9 @@
 package com.flipkart.hbaseobjectmapper.testcases;
 
+import com.flipkart.hbaseobjectmapper.DAOOptions;
 import com.flipkart.hbaseobjectmapper.HBAdmin;
+import com.flipkart.hbaseobjectmapper.NegativeLookupCache;
+import com.flipkart.hbaseobjectmapper.ReactiveBatcher;
 import com.flipkart.hbaseobjectmapper.Records;
 import com.flipkart.hbaseobjectmapper.WrappedHBColumnTC;
 import com.flipkart.hbaseobjectmapper.testcases.daos.reactive.CitizenDAO;
@@ -21,19 +24,30 @@ import com.flipkart.hbaseobjectmapper.testcases.util.cluster.InMemoryHBaseCluste
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.RealHBaseCluster;
 
 import com.google.common.collect.Iterables;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
 import org.apache.hadoop.hbase.client.AsyncConnection;
+import org.apache.hadoop.hbase.client.AsyncTable;
 import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.junit.jupiter.api.BeforeAll;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -42,6 +56,13 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.flipkart.hbaseobjectmapper.testcases.util.LiteralsUtil.a;
@@ -54,8 +75,14 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 // TODO: fix the tests. Currently, the tests are copied from the sync DAO as-is, but is not idiomatic with real reactive client usage.
 class TestsReactiveHBDAO extends BaseHBDAOTests {
@@ -185,6 +212,8 @@ class TestsReactiveHBDAO extends BaseHBDAOTests {
                     citizenDao.records("IND#102", "IND#104"),
                     citizenDao.get("IND#102", "IND#104").join()
             ), "Mismatch in result between records() and get() methods");
+            assertEquals(citizensByPrefix, collect(citizenDao.stream(new Scan().setRowPrefixFilter(citizenDao.toBytes("IND#")).setCaching(1))).join(),
+                    "Mismatch in result between stream() and get() methods");
 
             // Check exists:
             assertTrue(citizenDao.exists("IND#101").join(), "Row key exists, but couldn't be detected");
@@ -210,6 +239,8 @@ class TestsReactiveHBDAO extends BaseHBDAOTests {
                 Map<String, NavigableMap<Long, Object>> fieldValuesBulkGetPartial = citizenDao.fetchFieldValues(a("IND#101", "IND#102", "IND#103"), f, Integer.MAX_VALUE).join(),
                         fieldValuesRangeGetPartial = citizenDao.fetchFieldValues("IND#101", "IND#104", f, Integer.MAX_VALUE).join();
                 assertEquals(fieldValuesBulkGetPartial, fieldValuesRangeGetPartial, "[Field " + f + "] Difference between 'bulk fetch by array of row keys' and 'bulk fetch by range of row keys' when fetched for partial range");
+                assertEquals(new ArrayList<>(fieldValuesRangeGetFull.entrySet()), collect(citizenDao.streamFieldValues("A", "z", f, Integer.MAX_VALUE)).join(),
+                        "[Field " + f + "] Difference between 'bulk fetch by range of row keys' and 'stream by range of row keys'");
             }
 
             // Test for a single field (redundant test, but that's ok):
@@ -241,6 +272,40 @@ class TestsReactiveHBDAO extends BaseHBDAOTests {
         }
     }
 
+    /**
+     * Collects all elements of a publisher, requesting them one at a time
+     */
+    private static <V> CompletableFuture<List<V>> collect(Publisher<V> publisher) {
+        final CompletableFuture<List<V>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<V>() {
+            private final List<V> elements = new ArrayList<>();
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(V element) {
+                elements.add(element);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(elements);
+            }
+        });
+        return future;
+    }
+
     @Test
     public void testAppend() throws IOException {
         try {
@@ -423,8 +488,173 @@ class TestsReactiveHBDAO extends BaseHBDAOTests {
             Long rowKey = employeeDAO.persist(ePre).join();
             Employee ePost = employeeDAO.get(rowKey).join();
             assertEquals(ePre, ePost, "Object got corrupted after persist and get");
+            Employee projected = employeeDAO.get(rowKey, Collections.singleton("empName")).join();
+            assertEquals("E1", projected.getEmpName(), "Projected field wasn't fetched");
+            assertNull(projected.getReporteeCount(), "Field not in projection was fetched");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testBatcher() throws IOException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            createTables(Employee.class);
+            AtomicInteger batchGets = new AtomicInteger(), batchPuts = new AtomicInteger();
+            AsyncConnection countingConnection = interceptTables(connection, (table, interceptingTable) -> {
+                doAnswer(invocation -> {
+                    batchGets.incrementAndGet();
+                    return table.get(invocation.<List<Get>>getArgument(0));
+                }).when(interceptingTable).get(anyList());
+                doAnswer(invocation -> {
+                    batchPuts.incrementAndGet();
+                    return table.put(invocation.<List<Put>>getArgument(0));
+                }).when(interceptingTable).put(anyList());
+            });
+            EmployeeDAO employeeDAO = new EmployeeDAO(countingConnection);
+            List<Employee> employees = new ArrayList<>();
+            for (long empid = 600; empid < 625; empid++) {
+                employees.add(new Employee(empid, "E" + empid, (short) 1, System.currentTimeMillis()));
+            }
+            try (ReactiveBatcher<Long, Employee> batcher = employeeDAO.newBatcher(10, 1, TimeUnit.MINUTES, scheduler)) { // batches are sent when full or flushed
+                List<CompletableFuture<Long>> persisted = employees.stream().map(batcher::persist).collect(Collectors.toList());
+                batcher.flush();
+                assertEquals(employees.stream().map(Employee::getEmpid).collect(Collectors.toList()), persisted.stream().map(CompletableFuture::join).collect(Collectors.toList()), "Batched persists returned wrong row keys");
+                assertEquals(3, batchPuts.get(), "25 persists weren't sent as 3 batches of puts");
+                List<CompletableFuture<Employee>> fetched = new ArrayList<>();
+                for (Employee employee : employees) {
+                    fetched.add(batcher.get(employee.getEmpid()));
+                    fetched.add(batcher.get(employee.getEmpid()));
+                }
+                for (int i = 0; i < fetched.size(); i++) {
+                    assertEquals(employees.get(i / 2), fetched.get(i).join(), "Batched get returned wrong record");
+                }
+                assertEquals(5, batchGets.get(), "50 gets weren't sent as 5 batches of gets");
+            }
+            try (ReactiveBatcher<Long, Employee> batcher = employeeDAO.newBatcher(10, 500, TimeUnit.MICROSECONDS, scheduler)) { // batches are sent after the delay
+                batcher.delete(600L).join();
+                assertNull(batcher.get(600L).join(), "Batched delete wasn't applied");
+                assertNull(batcher.get(599L).join());
+            }
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.newBatcher(0, 1, TimeUnit.MILLISECONDS, scheduler));
         } finally {
+            scheduler.shutdown();
             deleteTables(Employee.class);
         }
     }
+
+    @Test
+    public void testBoundedBatches() throws IOException {
+        try {
+            createTables(Employee.class);
+            EmployeeDAO employeeDAO = new EmployeeDAO(connection);
+            List<Employee> employees = new ArrayList<>();
+            for (long empid = 700; empid < 723; empid++) {
+                employees.add(new Employee(empid, "E" + empid, (short) 1, System.currentTimeMillis()));
+            }
+            List<Long> rowKeys = employees.stream().map(Employee::getEmpid).collect(Collectors.toList());
+            assertEquals(rowKeys, collect(employeeDAO.persist(employees.iterator(), 5, 2)).join(), "Bounded batches of puts returned wrong row keys");
+            List<Long> rowKeysToFetch = new ArrayList<>(rowKeys);
+            rowKeysToFetch.add(5, 699L);
+            assertEquals(employees, collect(employeeDAO.stream(rowKeysToFetch.iterator(), 4, 3)).join(), "Bounded batches of gets returned wrong records");
+            assertEquals(rowKeys.subList(0, 10), collect(employeeDAO.delete(rowKeys.subList(0, 10).iterator(), 3, 2)).join(), "Bounded batches of deletes returned wrong row keys");
+            assertEquals(employees.subList(10, employees.size()), collect(employeeDAO.stream(rowKeys.iterator(), 7, 1)).join(), "Bounded batches of deletes weren't applied");
+            assertTrue(collect(employeeDAO.stream(Collections.<Long>emptyIterator(), 7, 1)).join().isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> employeeDAO.stream(rowKeys.iterator(), 5, 0));
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testNegativeLookupCache() throws IOException {
+        try {
+            createTables(Employee.class);
+            AtomicReference<CompletableFuture<Result>> lastGet = new AtomicReference<>();
+            AtomicReference<CompletableFuture<Void>> holdGets = new AtomicReference<>(CompletableFuture.completedFuture(null));
+            AsyncConnection racingConnection = interceptGets(connection, result -> {
+                lastGet.set(result);
+                return result.thenCombine(holdGets.get(), (r, nothing) -> r);
+            });
+            NegativeLookupCache negativeLookupCache = NegativeLookupCache.of(1000, 0.001, 1, TimeUnit.MINUTES);
+            EmployeeDAO employeeDAO = new EmployeeDAO(racingConnection, DAOOptions.<Long, Employee>builder().negativeLookupCache(negativeLookupCache).build());
+            assertNull(employeeDAO.get(801L).join());
+            assertNull(employeeDAO.get(801L).join());
+            assertFalse(employeeDAO.exists(801L).join());
+            assertEquals(2, negativeLookupCache.hitCount(), "Lookups of a missing row weren't answered from negative lookup cache");
+            Employee e801 = new Employee(801L, "E801", (short) 1, System.currentTimeMillis()),
+                    e802 = new Employee(802L, "E802", (short) 2, System.currentTimeMillis());
+            employeeDAO.persist(e801).join();
+            assertEquals(e801, employeeDAO.get(801L).join(), "Persisted row wasn't cleared from negative lookup cache");
+            CompletableFuture<Void> persisted = new CompletableFuture<>();
+            holdGets.set(persisted); // hold the next get, which finds the row missing, until the row is written
+            CompletableFuture<Employee> racingGet = employeeDAO.get(802L);
+            assertTrue(lastGet.get().join().isEmpty());
+            employeeDAO.persist(e802).join();
+            persisted.complete(null);
+            assertNull(racingGet.join(), "Get that read the row before it was written should find it missing");
+            assertEquals(e802, employeeDAO.get(802L).join(), "Get that raced with a write marked the row absent after the write");
+            employeeDAO.delete(801L).join();
+            assertNull(employeeDAO.get(801L).join());
+            assertEquals(3, negativeLookupCache.hitCount(), "Deleted row wasn't added to negative lookup cache (or a row written to was reported absent)");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    @Test
+    public void testCoalescedGets() throws IOException {
+        try {
+            createTables(Employee.class);
+            AtomicInteger hbaseGets = new AtomicInteger();
+            CompletableFuture<Void> allCallersArrived = new CompletableFuture<>();
+            AsyncConnection countingConnection = interceptGets(connection, result -> {
+                hbaseGets.incrementAndGet();
+                return result.thenCombine(allCallersArrived, (r, nothing) -> r);
+            });
+            EmployeeDAO employeeDAO = new EmployeeDAO(countingConnection, DAOOptions.<Long, Employee>builder().coalesceGets(true).build());
+            Employee e1 = new Employee(501L, "E1", (short) 1, System.currentTimeMillis());
+            employeeDAO.persist(e1).join();
+            List<CompletableFuture<Employee>> fetched = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                fetched.add(employeeDAO.get(501L));
+            }
+            allCallersArrived.complete(null);
+            for (CompletableFuture<Employee> employee : fetched) {
+                assertEquals(e1, employee.join(), "Concurrent get of the same row returned wrong record");
+            }
+            assertEquals(1, hbaseGets.get(), "Concurrent gets of the same row weren't coalesced into one HBase get");
+            Employee e1Updated = new Employee(501L, "E1 updated", (short) 1, System.currentTimeMillis());
+            employeeDAO.persist(e1Updated).join();
+            assertEquals(e1Updated, employeeDAO.get(501L).join(), "Get after a write didn't see the write");
+            assertNull(employeeDAO.get(502L).join());
+            assertEquals(3, hbaseGets.get(), "Gets that weren't concurrent were coalesced");
+        } finally {
+            deleteTables(Employee.class);
+        }
+    }
+
+    /**
+     * Wraps a connection, so that the outcome of every single-row get on its tables is passed through an interceptor (e.g. to count gets or to hold a get while a write races with it)
+     */
+    private static AsyncConnection interceptGets(AsyncConnection connection, UnaryOperator<CompletableFuture<Result>> interceptor) {
+        return interceptTables(connection, (table, interceptingTable) ->
+                doAnswer(invocation -> interceptor.apply(table.get(invocation.<Get>getArgument(0)))).when(interceptingTable).get(any(Get.class)));
+    }
+
+    /**
+     * Wraps a connection, so that its tables delegate to the actual tables except for calls stubbed by the given stubber (which gets the actual table and the wrapping one)
+     */
+    private static AsyncConnection interceptTables(AsyncConnection connection, BiConsumer<AsyncTable<AdvancedScanResultConsumer>, AsyncTable<AdvancedScanResultConsumer>> stubber) {
+        AsyncConnection interceptingConnection = mock(AsyncConnection.class, delegatesTo(connection));
+        doAnswer(invocation -> {
+            AsyncTable<AdvancedScanResultConsumer> table = connection.getTable(invocation.getArgument(0));
+            @SuppressWarnings("unchecked")
+            AsyncTable<AdvancedScanResultConsumer> interceptingTable = mock(AsyncTable.class, delegatesTo(table));
+            stubber.accept(table, interceptingTable);
+            return interceptingTable;
+        }).when(interceptingConnection).getTable(any(TableName.class));
+        return interceptingConnection;
+    }
 }
@@ -9,13 +9,18 @@ import com.flipkart.hbaseobjectmapper.exceptions.RowKeyCantBeComposedException;
 import com.flipkart.hbaseobjectmapper.testcases.TestObjects;
 import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
 import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
 import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @SuppressWarnings("unchecked")
@@ -91,6 +96,31 @@ public class TestCodecs {
         assertEquals(fieldValue, deserializedFieldValue,
                 String.format("Field %s got corrupted after serialization and deserialization of it's value:%n%s%n", fieldFullName, fieldValue)
         );
+        ValueCodec valueCodec = codec.specialize(type, flags);
+        assertArrayEquals(bytes, valueCodec.serialize(fieldValue), String.format("Field %s got serialized differently by specialized codec", fieldFullName));
+        if (bytes == null)
+            return;
+        assertEquals(fieldValue, valueCodec.deserialize(bytes, 0, bytes.length),
+                String.format("Field %s got corrupted after deserialization of it's value by specialized codec:%n%s%n", fieldFullName, fieldValue));
+        final int padding = 3;
+        byte[] paddedBytes = new byte[bytes.length + 2 * padding];
+        Arrays.fill(paddedBytes, (byte) 0x7f);
+        System.arraycopy(bytes, 0, paddedBytes, padding, bytes.length);
+        assertEquals(fieldValue, codec.deserialize(paddedBytes, padding, bytes.length, type, flags),
+                String.format("Field %s got corrupted after deserialization of it's value from a slice of an array:%n%s%n", fieldFullName, fieldValue));
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(paddedBytes.length), ByteBuffer.allocateDirect(paddedBytes.length))) {
+            buffer.put(paddedBytes, 0, padding);
+            assertEquals(bytes.length, codec.serialize(fieldValue, flags, buffer), String.format("Unexpected number of bytes written to buffer for field %s", fieldFullName));
+            buffer.put(paddedBytes, padding + bytes.length, padding);
+            buffer.flip();
+            byte[] bytesInBuffer = new byte[paddedBytes.length];
+            buffer.duplicate().get(bytesInBuffer);
+            assertArrayEquals(paddedBytes, bytesInBuffer, String.format("Field %s got serialized differently into a %s", fieldFullName, buffer.getClass().getSimpleName()));
+            buffer.position(padding).limit(padding + bytes.length);
+            assertEquals(fieldValue, codec.deserialize(buffer, type, flags),
+                    String.format("Field %s got corrupted after deserialization of it's value from a %s:%n%s%n", fieldFullName, buffer.getClass().getSimpleName(), fieldValue));
+            assertEquals(padding, buffer.position(), "Deserialization from a buffer shouldn't move its position");
+        }
     }
 
     @Test
@@ -144,4 +174,68 @@ public class TestCodecs {
             );
         }
     }
+
+    @Test
+    public void testOrderedBytes() throws SerializationException, DeserializationException {
+        BestSuitCodec codec = new BestSuitCodec();
+        Map<String, String> flags = Collections.singletonMap(BestSuitCodec.SERIALIZE_AS_ORDERED_BYTES, "true");
+        List<List<? extends Serializable>> sortedValues = Arrays.asList(
+                Arrays.asList(Integer.MIN_VALUE, -100, -1, 0, 1, 100, Integer.MAX_VALUE),
+                Arrays.asList(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE),
+                Arrays.asList(-2.5, -0.1, 0.0, 0.1, 2.5),
+                Arrays.asList(new BigDecimal("-10.5"), new BigDecimal("-1"), BigDecimal.ZERO, new BigDecimal("0.25"), new BigDecimal("3")),
+                Arrays.asList("", "a", "ab", "b"),
+                Arrays.asList(false, true)
+        );
+        for (List<? extends Serializable> values : sortedValues) {
+            byte[] previous = null;
+            for (Serializable value : values) {
+                byte[] bytes = codec.serialize(value, flags);
+                assertEquals(value, codec.deserialize(bytes, value.getClass(), flags), "Value got corrupted after order-preserving serialization and deserialization");
+                assertEquals(value, codec.specialize(value.getClass(), flags).deserialize(bytes, 0, bytes.length), "Value got corrupted after order-preserving serialization and deserialization by specialized codec");
+                if (previous != null) {
+                    assertTrue(Bytes.compareTo(previous, bytes) < 0, "Serialized values should sort the way values do, but " + value + " doesn't");
+                }
+                previous = bytes;
+            }
+        }
+    }
+
+    @Test
+    public void testTuples() throws SerializationException, DeserializationException {
+        BestSuitCodec codec = new BestSuitCodec();
+        List<Tuple> sortedTuples = Arrays.asList(
+                Tuple.of("IND", null, 1L),
+                Tuple.of("IND", -5, 1L),
+                Tuple.of("IND", 2020),
+                Tuple.of("IND", 2020, -1L),
+                Tuple.of("IND", 2020, 7L),
+                Tuple.of("IND", 2021, 0L),
+                Tuple.of("USA", -1, 0L, true, 1.5f, (short) 3, new BigDecimal("12.5"))
+        );
+        byte[] previous = null;
+        for (Tuple tuple : sortedTuples) {
+            byte[] bytes = codec.serialize(tuple, null);
+            assertEquals(tuple, codec.deserialize(bytes, Tuple.class, null), "Tuple got corrupted after serialization and deserialization");
+            if (previous != null) {
+                assertTrue(Bytes.compareTo(previous, bytes) < 0, "Serialized tuples should sort the way tuples do, but " + tuple + " doesn't");
+            }
+            previous = bytes;
+        }
+        for (int i = 1; i < sortedTuples.size(); i++) {
+            assertTrue(sortedTuples.get(i - 1).compareTo(sortedTuples.get(i)) < 0, "Tuples compared out of order");
+        }
+        final byte[] prefix = codec.serialize(Tuple.of("IND", 2020), null);
+        assertTrue(Bytes.startsWith(codec.serialize(Tuple.of("IND", 2020, 7L), null), prefix), "Serialized tuple should start with serialized form of its leading elements");
+        assertTrue(!Bytes.startsWith(codec.serialize(Tuple.of("IND", 2021, 7L), null), prefix), "Serialized tuple shouldn't start with serialized form of other leading elements");
+        final Tuple scaled = Tuple.of("IND", new BigDecimal("1.50")), unscaled = Tuple.of("IND", new BigDecimal("1.5"));
+        assertEquals(0, scaled.compareTo(unscaled));
+        assertEquals(scaled, unscaled, "Tuples that serialize identically should be equal (consistent with compareTo)");
+        assertEquals(scaled.hashCode(), unscaled.hashCode());
+        try {
+            Tuple.of("IND", new Date());
+            fail("Tuple with an element of unsupported type should've been rejected");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
 }
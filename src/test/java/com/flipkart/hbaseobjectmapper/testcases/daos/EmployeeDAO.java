@@ -2,6 +2,7 @@ package com.flipkart.hbaseobjectmapper.testcases.daos;
 
 
 import com.flipkart.hbaseobjectmapper.AbstractHBDAO;
+import com.flipkart.hbaseobjectmapper.DAOOptions;
 import com.flipkart.hbaseobjectmapper.testcases.entities.Employee;
 import org.apache.hadoop.hbase.client.Connection;
 
@@ -12,4 +13,8 @@ public class EmployeeDAO extends AbstractHBDAO<Long, Employee> {
     public EmployeeDAO(Connection connection) throws IOException {
         super(connection);
     }
+
+    public EmployeeDAO(Connection connection, DAOOptions<Long, Employee> options) throws IOException {
+        super(connection, options);
+    }
 }
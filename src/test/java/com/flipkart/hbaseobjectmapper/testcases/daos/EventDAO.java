@@ -0,0 +1,11 @@
+package com.flipkart.hbaseobjectmapper.testcases.daos;
+
+import com.flipkart.hbaseobjectmapper.AbstractHBDAO;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Event;
+import org.apache.hadoop.hbase.client.Connection;
+
+public class EventDAO extends AbstractHBDAO<Long, Event> {
+    public EventDAO(Connection connection) {
+        super(connection);
+    }
+}
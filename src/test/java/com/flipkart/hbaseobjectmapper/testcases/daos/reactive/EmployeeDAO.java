@@ -1,6 +1,7 @@
 package com.flipkart.hbaseobjectmapper.testcases.daos.reactive;
 
 
+import com.flipkart.hbaseobjectmapper.DAOOptions;
 import com.flipkart.hbaseobjectmapper.ReactiveHBDAO;
 import com.flipkart.hbaseobjectmapper.testcases.entities.Employee;
 
@@ -11,4 +12,8 @@ public class EmployeeDAO extends ReactiveHBDAO<Long, Employee> {
     public EmployeeDAO(AsyncConnection connection) {
         super(connection);
     }
+
+    public EmployeeDAO(AsyncConnection connection, DAOOptions<Long, Employee> options) {
+        super(connection, options);
+    }
 }
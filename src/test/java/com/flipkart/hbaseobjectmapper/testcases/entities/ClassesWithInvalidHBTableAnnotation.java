@@ -77,6 +77,24 @@ public class ClassesWithInvalidHBTableAnnotation {
         private Integer i;
     }
 
+    @HBTable(name = "blah", families = {@Family(name = "f")}, saltBuckets = 257)
+    public static class InvalidSaltBuckets implements HBRecord<String> {
+        private String key = "key";
+
+        @Override
+        public String composeRowKey() {
+            return key;
+        }
+
+        @Override
+        public void parseRowKey(String rowKey) {
+            this.key = rowKey;
+        }
+
+        @HBColumn(family = "f", column = "c")
+        private Integer i;
+    }
+
     public static class MissingHBTableAnnotation implements HBRecord<String> {
         private String key = "key";
 
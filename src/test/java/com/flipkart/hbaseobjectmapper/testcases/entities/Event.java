@@ -0,0 +1,27 @@
+package com.flipkart.hbaseobjectmapper.testcases.entities;
+
+import com.flipkart.hbaseobjectmapper.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@HBTable(name = "events", families = {@Family(name = "e")}, saltBuckets = 8)
+public class Event implements HBRecord<Long> {
+    private Long timestamp;
+
+    @HBColumn(family = "e", column = "name")
+    private String name;
+
+    @Override
+    public Long composeRowKey() {
+        return timestamp;
+    }
+
+    @Override
+    public void parseRowKey(Long rowKey) {
+        this.timestamp = rowKey;
+    }
+}